@@ -1,7 +1,7 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
@@ -29,6 +29,16 @@ import lignesclaires.graph.GraphLogger;
 import lignesclaires.graph.JGraphtUtil;
 import lignesclaires.parser.PaceInputParser;
 import lignesclaires.solver.HeuristicSolver;
+import lignesclaires.solver.OCCertifier;
+import lignesclaires.solver.OCBranchAndBoundSolver;
+import lignesclaires.solver.OCConcurrentSolver;
+import lignesclaires.solver.OCCutwidthSolver;
+import lignesclaires.solver.OCDistributedSolver;
+import lignesclaires.solver.OCDistributedWorker;
+import lignesclaires.solver.OCEPSSolver;
+import lignesclaires.solver.OCKernelSolver;
+import lignesclaires.solver.OCLNSSolver;
+import lignesclaires.solver.OCPortfolioSolver;
 import lignesclaires.solver.OCSearchFlag;
 import lignesclaires.solver.OCSolution;
 import lignesclaires.solver.OCSolver;
@@ -63,6 +73,9 @@ public final class LignesClaires {
 			final LignesClairesConfig config = optparser.getConfig();
 			configureVerbosity(config.getVerbosity());
 			LOGGER.log(Level.INFO, "Read configuration [OK]\n{0}", config);
+			if (config.getCoordinator().isPresent()) {
+				return runWorker(config.getCoordinator().get(), config);
+			}
 			final Optional<IBipartiteGraph> optGraph = parse(config.getInputFile(), config.getInputName());
 			if (optGraph.isPresent()) {
 				if (config.isReport()) {
@@ -108,8 +121,40 @@ public final class LignesClaires {
 		}
 	}
 
+	private static int runWorker(final String coordinator, final LignesClairesConfig config) {
+		final int sep = coordinator.lastIndexOf(':');
+		try {
+			final String host = sep > 0 ? coordinator.substring(0, sep) : "localhost";
+			final int port = Integer.parseInt(coordinator.substring(sep + 1));
+			new OCDistributedWorker(config).run(host, port);
+			return 0;
+		} catch (NumberFormatException | IOException e) {
+			LOGGER.log(Level.SEVERE, e, () -> "Run worker of " + coordinator + FAIL);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return 1;
+	}
+
 	private static IOCSolver buildSolver(final LignesClairesConfig config) {
-		return new OCSolver();
+		switch (config.getSolverType()) {
+		case PORTFOLIO:
+			return new OCPortfolioSolver();
+		case EPS:
+			return new OCEPSSolver();
+		case DISTRIBUTED:
+			return new OCDistributedSolver();
+		case LNS:
+			return new OCLNSSolver();
+		case CONCURRENT:
+			return new OCConcurrentSolver();
+		case CUTWIDTH:
+			return new OCCutwidthSolver();
+		case BNB:
+			return new OCBranchAndBoundSolver();
+		default:
+			return new OCSolver();
+		}
 	}
 
 	private static void logOnInputGraph(final String inputName, final IBipartiteGraph inputGraph) {
@@ -155,11 +200,19 @@ public final class LignesClaires {
 	private static OCSolution solve(final IBipartiteGraph bigraph, final LignesClairesConfig config) {
 		try {
 			final IOCSolver heuristics = new HeuristicSolver();
-			final OCSolution initialSolution = config.contains(OCSearchFlag.HEURISTICS)
-					? heuristics.solve(bigraph, config)
+			OCSolution initialSolution = config.contains(OCSearchFlag.HEURISTICS) ? heuristics.solve(bigraph, config)
 					: OCSolution.getUnknownInstance();
+			if (config.isCertified()) {
+				initialSolution = new OCCertifier().solve(bigraph, initialSolution, config);
+			}
+			if (initialSolution.getStatus() == Status.OPTIMUM) {
+				// Do not build the solver, and thus do not load the classes of choco.
+				LOGGER.log(Level.INFO, "Solve OCM:\n{0}", initialSolution);
+				return initialSolution;
+			}
 
-			final IOCSolver solver = buildSolver(config);
+			final IOCSolver solver = config.isKernelized() ? new OCKernelSolver(buildSolver(config))
+					: buildSolver(config);
 			OCSolution solution = solver.solve(bigraph, initialSolution, config);
 			LOGGER.log(Level.INFO, "Solve OCM:\n{0}", solution);
 			return solution;
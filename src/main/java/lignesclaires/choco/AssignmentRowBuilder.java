@@ -1,7 +1,7 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
@@ -9,7 +9,6 @@
 package lignesclaires.choco;
 
 import java.util.Arrays;
-import java.util.Comparator;
 
 public class AssignmentRowBuilder {
 
@@ -30,17 +29,18 @@ public class AssignmentRowBuilder {
 		next = new int[n + 1];
 		prev = new int[n + 1];
 
-		// Create an array of indices
-		Integer[] inds = new Integer[n];
+		// Sort the indices based on the values in the original array.
+		// Each key packs a (non-negative) value and its index in a primitive long.
+		final long[] keys = new long[n];
 		for (int i = 0; i < n; i++) {
-			inds[i] = i;
+			keys[i] = ((long) values[i] << 32) | i;
 		}
-		// Sort the indices based on the values in the original array
-		Arrays.sort(inds, Comparator.comparingInt(index -> values[index]));
+		Arrays.sort(keys);
 
 		for (int i = 0; i < n; i++) {
-			indices[inds[i]] = i;
-			svalues[i] = values[inds[i]];
+			final int index = (int) keys[i];
+			indices[index] = i;
+			svalues[i] = values[index];
 		}
 		svalues[n] = n * n * n;
 	}
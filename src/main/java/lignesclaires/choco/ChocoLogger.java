@@ -1,7 +1,7 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
@@ -17,7 +17,7 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.Solver;
 
-import lignesclaires.solver.OCModel;
+import lignesclaires.solver.AbstractOCModel;
 import lignesclaires.solver.Status;
 import lignesclaires.specs.IChocoModel;
 
@@ -40,14 +40,14 @@ public final class ChocoLogger {
 		}
 	}
 
-	public static void logOnSolution(final OCModel model, final Solution solution) {
+	public static void logOnSolution(final AbstractOCModel model, final Solution solution) {
 		LOGGER.log(Level.FINE, "Display solution #{0}:\no {1}\n{2}",
 				new Object[] { model.getSolver().getSolutionCount(),
 						model.getSolver().getObjectiveManager().getBestSolutionValue(),
 						model.printSolution(solution) });
 	}
 
-	public static void logOnBestSolution(final OCModel model, final Solution solution) {
+	public static void logOnBestSolution(final AbstractOCModel model, final Solution solution) {
 		LOGGER.log(Level.INFO, "Display best solution #{0}:\n{1}",
 				new Object[] { model.getSolver().getSolutionCount(), model.printSolution(solution) });
 	}
@@ -62,6 +62,17 @@ public final class ChocoLogger {
 		}
 	}
 
+	public static void logOnPropagators(final AbstractOCModel m) {
+		if (LOGGER.isLoggable(Level.INFO)) {
+			m.getAssignmentLowerBound().ifPresent(
+					p -> LOGGER.log(Level.INFO, "Assignment lower bound diagnostics:\n{0}", toDimacs(p)));
+			m.getLazyTransitivity()
+					.ifPresent(p -> LOGGER.log(Level.INFO, "Lazy transitivity diagnostics:\n{0}", toDimacs(p)));
+			m.getCyclePackingLowerBound()
+					.ifPresent(p -> LOGGER.log(Level.INFO, "Cycle packing diagnostics:\n{0}", toDimacs(p)));
+		}
+	}
+
 	public static String toDimacs(final Model model) {
 		final StringBuilder b = new StringBuilder();
 		Formatter fmt = new Formatter(b, Locale.US);
@@ -80,6 +91,9 @@ public final class ChocoLogger {
 		fmt.format("s %s", Status.getStatus(s));
 		if (s.hasObjective()) {
 			fmt.format("%no %d", s.getBoundsManager().getBestSolutionValue().intValue());
+			final int lb = DualBoundMonitor.getDualBound(s);
+			final int ub = DualBoundMonitor.getPrimalBound(s);
+			fmt.format("%nd BOUND %d%nd GAP %.4f", lb, DualBoundMonitor.getRelativeGap(lb, ub));
 		}
 		fmt.format(
 				"%nd NBSOLS %d%nd TIME %.3f%nd TIME_BEST %.3f%nd NODES %d%nd BACKTRACKS %d%nd BACKJUMPS %d%nd FAILURES %d%nd RESTARTS %d%nd STATUS %s",
@@ -88,4 +102,20 @@ public final class ChocoLogger {
 		fmt.close();
 		return b.toString();
 	}
+
+	public static String toDimacs(final PropAssignmentLowerBound prop) {
+		return String.format(Locale.US,
+				"d LB_CALLS %d%nd LB_SKIPS %d%nd LB_CACHE_HITS %d%nd LB_TIGHTENINGS %d%nd LB_REMOVALS %d",
+				prop.getCallCount(), prop.getSkipCount(), prop.getCacheHitCount(), prop.getTightenCount(),
+				prop.getRemovalCount());
+	}
+
+	public static String toDimacs(final PropCyclePackingLowerBound prop) {
+		return String.format(Locale.US, "d CP_CYCLES %d%nd CP_TIGHTENINGS %d", prop.getCycleCount(),
+				prop.getTightenCount());
+	}
+
+	public static String toDimacs(final PropLazyTransitivity prop) {
+		return String.format(Locale.US, "d TRANS_ACTIVE_CUTS %d", prop.getActiveCutCount());
+	}
 }
@@ -0,0 +1,102 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.choco;
+
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.objective.AbstractIntObjManager;
+import org.chocosolver.solver.objective.IObjectiveManager;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.loop.monitors.IMonitorInitialize;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * Dual bound of the minimization of the crossing count.
+ *
+ * The lower bound of the objective after the propagation of the root node is
+ * pushed into the objective manager at the beginning of the search and after
+ * each restart. It includes the constant of the reduced crossing counts and the
+ * assignment lower bound. The bound is not valid when the root node is
+ * restricted, for instance by a large neighborhood search.
+ */
+public class DualBoundMonitor implements IMonitorInitialize, IMonitorRestart {
+
+	private final Solver solver;
+
+	private final IntVar objective;
+
+	public DualBoundMonitor(final Solver solver, final IntVar objective) {
+		super();
+		this.solver = solver;
+		this.objective = objective;
+	}
+
+	private void updateBestLB() {
+		// The root node fails if its lower bound exceeds the incumbent.
+		if (objective.getLB() <= getPrimalBound(solver)) {
+			final IObjectiveManager<IntVar> manager = solver.getObjectiveManager();
+			((AbstractIntObjManager) manager).updateBestLB(objective.getLB());
+		}
+	}
+
+	@Override
+	public void afterInitialize(final boolean correct) {
+		if (correct) {
+			updateBestLB();
+		}
+	}
+
+	@Override
+	public void afterRestart() {
+		updateBestLB();
+	}
+
+	/**
+	 * Gets the best dual bound of a minimization, that is the best upper bound
+	 * if the search is complete.
+	 */
+	public static int getDualBound(final Solver solver) {
+		return solver.getSearchState() == SearchState.TERMINATED ? getPrimalBound(solver)
+				: Math.max(0, solver.getObjectiveManager().getBestLB().intValue());
+	}
+
+	/**
+	 * Gets the best upper bound of a minimization, which may be given by a
+	 * solution found outside the solver.
+	 */
+	public static int getPrimalBound(final Solver solver) {
+		return solver.getObjectiveManager().getBestUB().intValue();
+	}
+
+	/**
+	 * Gets the relative gap between a lower bound and an upper bound.
+	 *
+	 * @return (ub - lb) / ub, or 0 if the bounds meet
+	 */
+	public static double getRelativeGap(final int lb, final int ub) {
+		return ub <= lb ? 0 : (double) (ub - lb) / ub;
+	}
+
+	/**
+	 * Check if the gap between the bounds is positive but below the limits.
+	 * When the bounds meet, the search terminates by itself and proves
+	 * optimality.
+	 *
+	 * @param solver      the solver of a minimization
+	 * @param absoluteGap the maximum difference between the bounds
+	 * @param relativeGap the maximum relative gap
+	 * @return <code>true</code> if the search can stop
+	 */
+	public static boolean isGapReached(final Solver solver, final int absoluteGap, final double relativeGap) {
+		final int ub = getPrimalBound(solver);
+		final int lb = getDualBound(solver);
+		return ub > lb && (ub - lb <= absoluteGap || getRelativeGap(lb, ub) <= relativeGap);
+	}
+
+}
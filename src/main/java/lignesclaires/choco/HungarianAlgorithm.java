@@ -0,0 +1,195 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.choco;
+
+import java.util.Arrays;
+
+/**
+ * Incremental Hungarian algorithm for the minimum weight assignment problem
+ * on a square integer matrix.
+ *
+ * The dual potentials and the matching are kept between two calls. Only the
+ * rows whose costs have changed are unassigned: their potentials are lowered
+ * to restore the dual feasibility and they are assigned again by shortest
+ * augmenting paths. All arrays are allocated once.
+ */
+public class HungarianAlgorithm {
+
+	private static final long INFINITY = Long.MAX_VALUE / 4;
+
+	private final int n;
+
+	// The arrays below are indexed from 1, the index 0 is a dummy row/column.
+	private final int[][] costs;
+	private final long[] rowPotentials;
+	private final long[] colPotentials;
+	private final int[] rowOfCol;
+	private final int[] colOfRow;
+
+	private final boolean[] dirty;
+	private final long[] minSlacks;
+	private final int[] way;
+	private final boolean[] used;
+
+	private long weight;
+
+	public HungarianAlgorithm(final int n) {
+		super();
+		this.n = n;
+		costs = new int[n + 1][n + 1];
+		rowPotentials = new long[n + 1];
+		colPotentials = new long[n + 1];
+		rowOfCol = new int[n + 1];
+		colOfRow = new int[n + 1];
+		dirty = new boolean[n + 1];
+		minSlacks = new long[n + 1];
+		way = new int[n + 1];
+		used = new boolean[n + 1];
+		Arrays.fill(dirty, true);
+	}
+
+	public final int size() {
+		return n;
+	}
+
+	/**
+	 * Copy the rows of the matrix that have changed since the last call.
+	 *
+	 * @param matrix the n x n cost matrix
+	 * @return the number of changed rows
+	 */
+	private int update(final int[][] matrix) {
+		int count = 0;
+		for (int i = 1; i <= n; i++) {
+			final int[] src = matrix[i - 1];
+			final int[] dest = costs[i];
+			for (int j = 1; j <= n; j++) {
+				if (dest[j] != src[j - 1]) {
+					dirty[i] = true;
+					System.arraycopy(src, 0, dest, 1, n);
+					break;
+				}
+			}
+			if (dirty[i]) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private void unassign(final int i) {
+		final int j = colOfRow[i];
+		if (j > 0) {
+			rowOfCol[j] = 0;
+			colOfRow[i] = 0;
+		}
+		long min = INFINITY;
+		for (int k = 1; k <= n; k++) {
+			min = Math.min(min, costs[i][k] - colPotentials[k]);
+		}
+		rowPotentials[i] = min;
+		dirty[i] = false;
+	}
+
+	private void augment(final int row) {
+		rowOfCol[0] = row;
+		int j0 = 0;
+		Arrays.fill(minSlacks, INFINITY);
+		Arrays.fill(used, false);
+		do {
+			used[j0] = true;
+			final int i0 = rowOfCol[j0];
+			long delta = INFINITY;
+			int j1 = 0;
+			for (int j = 1; j <= n; j++) {
+				if (!used[j]) {
+					final long cur = costs[i0][j] - rowPotentials[i0] - colPotentials[j];
+					if (cur < minSlacks[j]) {
+						minSlacks[j] = cur;
+						way[j] = j0;
+					}
+					if (minSlacks[j] < delta) {
+						delta = minSlacks[j];
+						j1 = j;
+					}
+				}
+			}
+			for (int j = 0; j <= n; j++) {
+				if (used[j]) {
+					rowPotentials[rowOfCol[j]] += delta;
+					colPotentials[j] -= delta;
+				} else {
+					minSlacks[j] -= delta;
+				}
+			}
+			j0 = j1;
+		} while (rowOfCol[j0] != 0);
+		do {
+			final int j1 = way[j0];
+			rowOfCol[j0] = rowOfCol[j1];
+			colOfRow[rowOfCol[j0]] = j0;
+			j0 = j1;
+		} while (j0 != 0);
+	}
+
+	/**
+	 * Solve the assignment problem for the given matrix.
+	 *
+	 * The previous matching and dual potentials are used as a warm start.
+	 *
+	 * @param matrix the n x n cost matrix (not modified)
+	 * @return the minimum weight of a perfect assignment
+	 */
+	public long solve(final int[][] matrix) {
+		if (update(matrix) > 0) {
+			for (int i = 1; i <= n; i++) {
+				if (dirty[i]) {
+					unassign(i);
+				}
+			}
+			for (int i = 1; i <= n; i++) {
+				if (colOfRow[i] == 0) {
+					augment(i);
+				}
+			}
+			weight = 0;
+			for (int i = 1; i <= n; i++) {
+				weight += costs[i][colOfRow[i]];
+			}
+		}
+		return weight;
+	}
+
+	public final long getWeight() {
+		return weight;
+	}
+
+	/**
+	 * Gets the column assigned to a row in the last solved assignment.
+	 *
+	 * @param row the row (0-based)
+	 * @return the column (0-based)
+	 */
+	public final int getAssignedColumn(final int row) {
+		return colOfRow[row + 1] - 1;
+	}
+
+	/**
+	 * Gets the reduced cost of an entry with respect to the dual potentials of
+	 * the last solved assignment.
+	 *
+	 * @param row the row (0-based)
+	 * @param col the column (0-based)
+	 * @return the non-negative reduced cost
+	 */
+	public final long getReducedCost(final int row, final int col) {
+		return costs[row + 1][col + 1] - rowPotentials[row + 1] - colPotentials[col + 1];
+	}
+
+}
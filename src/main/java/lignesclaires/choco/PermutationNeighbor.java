@@ -0,0 +1,195 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.choco;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.loop.lns.neighbors.IntNeighbor;
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * Neighborhoods of the incumbent permutation for a large neighborhood search.
+ *
+ * A fragment relaxes a set of vertices and freezes the other slots of the
+ * permutation. The relaxed vertices are in turn a window of consecutive slots,
+ * vertices whose spans overlap the span of a random vertex, or random vertices.
+ * The size of the fragments shrinks after an improvement and grows after a
+ * failure, so that it is stable when about one move in six succeeds. The search
+ * is complete when a fragment relaxes all the vertices.
+ */
+public class PermutationNeighbor extends IntNeighbor {
+
+	private enum Kind {
+		WINDOW, SPAN, RANDOM
+	}
+
+	private static final int MIN_SIZE = 2;
+
+	private static final int INITIAL_SIZE = 10;
+
+	private static final double SHRINK = 0.9;
+
+	private static final double GROW = 1.02;
+
+	private final int n;
+
+	// spans[i] are the first and last neighbors of the vertex i.
+	private final int[][] spans;
+
+	// positions[i] is the slot of the vertex i in the recorded permutation.
+	private final int[] positions;
+
+	private final BitSet relaxed;
+
+	private final Random rnd;
+
+	private double size;
+
+	private int kind;
+
+	private boolean improved;
+
+	private boolean complete;
+
+	private int moveCount;
+
+	private int successCount;
+
+	/**
+	 * Build the neighborhoods.
+	 *
+	 * @param permutation the variables of the vertices by slot
+	 * @param spans       the first and last neighbors of the vertices
+	 * @param seed        the seed of the random generator
+	 */
+	public PermutationNeighbor(final IntVar[] permutation, final int[][] spans, final long seed) {
+		super(permutation);
+		this.n = permutation.length;
+		this.spans = spans;
+		this.positions = new int[n];
+		this.relaxed = new BitSet(n);
+		this.rnd = new Random(seed);
+		this.size = Math.min(n, INITIAL_SIZE);
+	}
+
+	public final int getMoveCount() {
+		return moveCount;
+	}
+
+	public final int getSuccessCount() {
+		return successCount;
+	}
+
+	public final int getSize() {
+		return (int) Math.round(size);
+	}
+
+	private void updatePositions() {
+		for (int p = 0; p < n; p++) {
+			positions[values[p]] = p;
+		}
+	}
+
+	@Override
+	public void recordSolution() {
+		super.recordSolution();
+		updatePositions();
+		improved = true;
+	}
+
+	@Override
+	public void loadFromSolution(final Solution solution) {
+		super.loadFromSolution(solution);
+		updatePositions();
+	}
+
+	@Override
+	public void restrictLess() {
+		moveCount++;
+		if (improved) {
+			successCount++;
+			size = Math.max(Math.min(n, MIN_SIZE), size * SHRINK);
+		} else {
+			size = Math.min(n, size * GROW);
+		}
+		improved = false;
+	}
+
+	@Override
+	public boolean isSearchComplete() {
+		return complete;
+	}
+
+	private void relaxWindow(final int k) {
+		final int start = rnd.nextInt(n - k + 1);
+		for (int p = start; p < start + k; p++) {
+			relaxed.set(values[p]);
+		}
+	}
+
+	private void relaxRandom(final int k) {
+		while (relaxed.cardinality() < k) {
+			relaxed.set(rnd.nextInt(n));
+		}
+	}
+
+	private boolean overlaps(final int i, final int j) {
+		return spans[i][0] <= spans[j][1] && spans[j][0] <= spans[i][1];
+	}
+
+	private void relaxClosest(final int v, final int k, final boolean overlapping) {
+		final int p0 = positions[v];
+		for (int d = 1; d < n && relaxed.cardinality() < k; d++) {
+			if (p0 - d >= 0 && (!overlapping || overlaps(v, values[p0 - d]))) {
+				relaxed.set(values[p0 - d]);
+			}
+			if (p0 + d < n && relaxed.cardinality() < k && (!overlapping || overlaps(v, values[p0 + d]))) {
+				relaxed.set(values[p0 + d]);
+			}
+		}
+	}
+
+	private void relaxSpan(final int k) {
+		if (n == 0) {
+			return;
+		}
+		final int v = rnd.nextInt(n);
+		relaxed.set(v);
+		relaxClosest(v, k, true);
+		relaxClosest(v, k, false);
+	}
+
+	@Override
+	public void fixSomeVariables() throws ContradictionException {
+		final int k = getSize();
+		relaxed.clear();
+		switch (Kind.values()[kind]) {
+		case WINDOW:
+			relaxWindow(k);
+			break;
+		case SPAN:
+			relaxSpan(k);
+			break;
+		default:
+			relaxRandom(k);
+			break;
+		}
+		kind = (kind + 1) % Kind.values().length;
+		complete = relaxed.cardinality() == n;
+		for (int p = 0; p < n; p++) {
+			if (!relaxed.get(values[p])) {
+				freeze(p);
+			}
+		}
+	}
+
+}
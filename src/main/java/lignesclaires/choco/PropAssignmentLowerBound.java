@@ -1,7 +1,7 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
@@ -11,13 +11,24 @@ package lignesclaires.choco;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.tools.ArrayUtils;
 
 import lignesclaires.specs.IBipartiteGraph;
 
+/**
+ * Lower bound on the crossing count given by an assignment relaxation of the
+ * positions.
+ *
+ * The propagator is coarse and has the lowest priority, so it runs at the
+ * fixpoint of the other propagators. It is run at most once every
+ * <code>period</code> search nodes, and the bound of the last assignment is
+ * reused while the bounds of the positions are unchanged.
+ */
 public class PropAssignmentLowerBound extends Propagator<IntVar> {
 
 	private final IntVar[] positions;
@@ -26,12 +37,44 @@ public class PropAssignmentLowerBound extends Propagator<IntVar> {
 
 	private final AssignmentBuilder builder;
 
+	private final int period;
+	private long lastNode;
+
+	private final boolean filtering;
+
+	// Bounds of the positions for the last solved assignment.
+	private final int[] cachedLBs;
+	private final int[] cachedUBs;
+	private long cachedFingerprint;
+	private boolean cacheValid;
+	private int cachedWeight;
+
+	private long callCount;
+	private long skipCount;
+	private long hitCount;
+	private long tightenCount;
+	private long removalCount;
+
 	public PropAssignmentLowerBound(IBipartiteGraph bigraph, IntVar[] positions, IntVar cost) {
+		this(bigraph, positions, cost, 1);
+	}
+
+	public PropAssignmentLowerBound(IBipartiteGraph bigraph, IntVar[] positions, IntVar cost, int period) {
+		this(bigraph, positions, cost, period, true);
+	}
+
+	public PropAssignmentLowerBound(IBipartiteGraph bigraph, IntVar[] positions, IntVar cost, int period,
+			boolean filtering) {
 		super(ArrayUtils.concat(positions, cost), PropagatorPriority.VERY_SLOW, false);
 		this.positions = positions;
 		this.cost = cost;
 		this.constant = bigraph.getReducedCrossingCounts().getConstant();
 		builder = new AssignmentBuilder(bigraph);
+		this.period = Math.max(1, period);
+		this.lastNode = -this.period;
+		this.filtering = filtering;
+		cachedLBs = new int[positions.length];
+		cachedUBs = new int[positions.length];
 	}
 
 	@Override
@@ -41,21 +84,143 @@ public class PropAssignmentLowerBound extends Propagator<IntVar> {
 
 	static boolean isOn = true;
 
-	@Override
-	public void propagate(int evtmask) throws ContradictionException {
-		builder.buildAssignmentGraph(positions);
-		final int weight = (int) Math.ceil(builder.solveAssignment().getWeight());
+	/**
+	 * Remove the positions whose reduced cost in the assignment relaxation makes
+	 * the lower bound exceed the upper bound of the objective.
+	 */
+	private void filterPositions(final int lb) throws ContradictionException {
+		final HungarianAlgorithm hungarian = builder.getHungarianAlgorithm();
+		final long slack = (long) cost.getUB() - lb;
+		for (int i = 0; i < positions.length; i++) {
+			final IntVar pos = positions[i];
+			if (!pos.isInstantiated()) {
+				final int ub = pos.getUB();
+				for (int p = pos.getLB(); p <= ub; p = pos.nextValue(p)) {
+					if (hungarian.getReducedCost(i, p) > slack) {
+						removalCount++;
+						pos.removeValue(p, this);
+					}
+				}
+			}
+		}
+	}
+
+	private long getFingerprint() {
+		long h = 1;
+		for (IntVar pos : positions) {
+			h = 31 * h + pos.getLB();
+			h = 31 * h + pos.getUB();
+		}
+		return h;
+	}
+
+	private boolean isCached(final long fingerprint) {
+		if (!cacheValid || fingerprint != cachedFingerprint) {
+			return false;
+		}
+		for (int i = 0; i < positions.length; i++) {
+			if (positions[i].getLB() != cachedLBs[i] || positions[i].getUB() != cachedUBs[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
 
-		final int lb = constant + weight;
-//		if (lb > cost.getUB()) {
-//			System.err.println(cost + " " + (constant + weight));
-//		} else if (lb > cost.getLB()) {
-//			System.out.println(cost + " " + (constant + weight));
-//		}
-		// System.out.println(cost + " " + (constant + weight));
+	private void cache(final long fingerprint, final int weight) {
+		for (int i = 0; i < positions.length; i++) {
+			cachedLBs[i] = positions[i].getLB();
+			cachedUBs[i] = positions[i].getUB();
+		}
+		cachedFingerprint = fingerprint;
+		cachedWeight = weight;
+		cacheValid = true;
+	}
 
+	private int getWeight() {
+		final long fingerprint = getFingerprint();
+		if (isCached(fingerprint)) {
+			hitCount++;
+		} else {
+			builder.buildAssignmentMatrix(positions);
+			cache(fingerprint, (int) Math.min(builder.solveAssignment(), Integer.MAX_VALUE - constant));
+		}
+		return cachedWeight;
+	}
+
+	private boolean isDue() {
+		final long node = getModel().getSolver().getNodeCount();
+		if (node != lastNode && node - lastNode < period) {
+			return false;
+		}
+		lastNode = node;
+		return true;
+	}
+
+	@Override
+	public void propagate(int evtmask) throws ContradictionException {
+		callCount++;
+		if (!isDue()) {
+			skipCount++;
+			return;
+		}
+		final int lb = constant + getWeight();
 		if (isOn) {
+			if (lb > cost.getLB()) {
+				tightenCount++;
+			}
 			cost.updateLowerBound(lb, this);
+			if (filtering) {
+				filterPositions(lb);
+			}
+		}
+	}
+
+	public final long getCallCount() {
+		return callCount;
+	}
+
+	public final long getSkipCount() {
+		return skipCount;
+	}
+
+	public final long getCacheHitCount() {
+		return hitCount;
+	}
+
+	public final long getTightenCount() {
+		return tightenCount;
+	}
+
+	public final long getRemovalCount() {
+		return removalCount;
+	}
+
+	/**
+	 * The assignment only depends on the bounds of the positions, so the
+	 * premises are the bounds of the positions. A removed position also depends
+	 * on the upper bound of the cost.
+	 */
+	@Override
+	public void explain(final int p, final ExplanationForSignedClause explanation) {
+		final IntVar pivot = explanation.readVar(p);
+		for (IntVar pos : positions) {
+			final IntIterableRangeSet dom = explanation.readDom(pos);
+			final IntIterableRangeSet set = explanation.empty();
+			set.addBetween(IntIterableRangeSet.MIN, dom.min() - 1);
+			set.addBetween(dom.max() + 1, IntIterableRangeSet.MAX);
+			if (pos == pivot) {
+				set.addAll(explanation.readDom(p));
+				pos.intersectLit(set, explanation);
+			} else {
+				pos.unionLit(set, explanation);
+			}
+		}
+		if (pivot == cost) {
+			final IntIterableRangeSet dom = explanation.readDom(p);
+			final int lb = dom.isEmpty() ? explanation.readDom(cost).max() + 1 : dom.min();
+			cost.intersectLit(lb, IntIterableRangeSet.MAX, explanation);
+		} else {
+			cost.unionLit(explanation.readDom(cost).max() + 1, IntIterableRangeSet.MAX, explanation);
 		}
 	}
 
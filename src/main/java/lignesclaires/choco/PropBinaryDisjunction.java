@@ -1,7 +1,7 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
@@ -15,6 +15,7 @@ import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 
 public final class PropBinaryDisjunction extends Propagator<IntVar> {
 
@@ -91,8 +92,56 @@ public final class PropBinaryDisjunction extends Propagator<IntVar> {
 		}
 	}
 
+	/**
+	 * Explain that the premise left <= m <= right implies the orientation of the
+	 * binary variable: (left > m) or (right < m) or (b in set).
+	 */
+	private void explainBinary(final IntVar left, final IntVar right, final int m,
+			final IntIterableRangeSet set, final ExplanationForSignedClause explanation) {
+		left.unionLit(m + 1, IntIterableRangeSet.MAX, explanation);
+		right.unionLit(IntIterableRangeSet.MIN, m - 1, explanation);
+		b.intersectLit(set, explanation);
+	}
+
+	/**
+	 * Explain a bound of the pivot deduced from the orientation left < right.
+	 */
+	private void explainBounds(final IntVar pivot, final IntVar left, final IntVar right,
+			final ExplanationForSignedClause explanation) {
+		if (pivot == left) {
+			// (right > m) or (left < m) with m = ub(right)
+			final int m = explanation.readDom(right).max();
+			right.unionLit(m + 1, IntIterableRangeSet.MAX, explanation);
+			left.intersectLit(IntIterableRangeSet.MIN, m - 1, explanation);
+		} else {
+			// (left < m) or (right > m) with m = lb(left)
+			final int m = explanation.readDom(left).min();
+			left.unionLit(IntIterableRangeSet.MIN, m - 1, explanation);
+			right.intersectLit(m + 1, IntIterableRangeSet.MAX, explanation);
+		}
+	}
+
 	@Override
 	public void explain(final int p, final ExplanationForSignedClause explanation) {
+		final IntVar pivot = explanation.readVar(p);
+		if (pivot == b) {
+			final int ubx = explanation.readDom(x).max();
+			if (ubx <= explanation.readDom(y).min()) {
+				final IntIterableRangeSet zero = explanation.empty();
+				zero.add(0);
+				explainBinary(x, y, ubx, zero, explanation);
+			} else {
+				explainBinary(y, x, explanation.readDom(y).max(), explanation.setDiffVal(0), explanation);
+			}
+		} else if (explanation.readDom(b).contains(0)) {
+			// b = 0, so x < y
+			b.unionLit(explanation.setDiffVal(0), explanation);
+			explainBounds(pivot, x, y, explanation);
+		} else {
+			// b != 0, so y < x
+			b.unionLit(0, explanation);
+			explainBounds(pivot, y, x, explanation);
+		}
 	}
 
 	@Override
@@ -0,0 +1,152 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.choco;
+
+import org.chocosolver.memory.IStateBitSet;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import gnu.trove.list.array.TIntArrayList;
+import lignesclaires.solver.CyclePacking;
+
+/**
+ * Lower bound on the crossing count given by a packing of 3-cycles.
+ *
+ * The cycles are packed once at the root. A pair is reversed when the bounds of
+ * the positions order it in its expensive orientation. The bound adds the
+ * weights of the reversed pairs and the values of the cycles without reversed
+ * pairs. A reversed pair stays reversed in the subtree, so the reversed pairs,
+ * the dropped cycles and the bound are backtrackable, and only the pairs of
+ * the modified positions are checked.
+ */
+public class PropCyclePackingLowerBound extends Propagator<IntVar> {
+
+	private final IntVar[] positions;
+	private final IntVar cost;
+
+	private final CyclePacking packing;
+
+	// pairs[i] are the incomparable pairs of the free node i.
+	private final int[][] pairs;
+
+	// cycles[p] are the cycles of the pair p.
+	private final int[][] cycles;
+
+	private final IStateBitSet reversed;
+
+	private final IStateBitSet dropped;
+
+	private final IStateInt bound;
+
+	private long tightenCount;
+
+	public PropCyclePackingLowerBound(final CyclePacking packing, final IntVar[] positions, final IntVar cost) {
+		super(ArrayUtils.concat(positions, cost), PropagatorPriority.LINEAR, true);
+		this.positions = positions;
+		this.cost = cost;
+		this.packing = packing;
+		final int n = positions.length;
+		final TIntArrayList[] pairLists = new TIntArrayList[n];
+		for (int i = 0; i < n; i++) {
+			pairLists[i] = new TIntArrayList();
+		}
+		final int m = packing.getPairCount();
+		final TIntArrayList[] cycleLists = new TIntArrayList[m];
+		for (int p = 0; p < m; p++) {
+			pairLists[packing.getSource(p)].add(p);
+			pairLists[packing.getTarget(p)].add(p);
+			cycleLists[p] = new TIntArrayList();
+		}
+		for (int c = 0; c < packing.getCycleCount(); c++) {
+			for (int p : packing.getCyclePairs(c)) {
+				cycleLists[p].add(c);
+			}
+		}
+		pairs = new int[n][];
+		for (int i = 0; i < n; i++) {
+			pairs[i] = pairLists[i].toArray();
+		}
+		cycles = new int[m][];
+		for (int p = 0; p < m; p++) {
+			cycles[p] = cycleLists[p].toArray();
+		}
+		reversed = getModel().getEnvironment().makeBitSet(m);
+		dropped = getModel().getEnvironment().makeBitSet(packing.getCycleCount());
+		bound = getModel().getEnvironment().makeInt(packing.getLowerBound());
+	}
+
+	@Override
+	public int getPropagationConditions(int vIdx) {
+		return vIdx < positions.length ? IntEventType.boundAndInst() : IntEventType.VOID.getMask();
+	}
+
+	private boolean isReversed(final int pair) {
+		return positions[packing.getTarget(pair)].getUB() < positions[packing.getSource(pair)].getLB();
+	}
+
+	/**
+	 * Reverse the pair if it is newly reversed, and drop its cycles.
+	 */
+	private void check(final int pair) {
+		if (!reversed.get(pair) && isReversed(pair)) {
+			reversed.set(pair);
+			int lb = bound.get() + packing.getWeight(pair);
+			for (int c : cycles[pair]) {
+				if (!dropped.get(c)) {
+					dropped.set(c);
+					lb -= packing.getCycleValue(c);
+				}
+			}
+			bound.set(lb);
+		}
+	}
+
+	private void updateCost() throws ContradictionException {
+		if (bound.get() > cost.getLB()) {
+			tightenCount++;
+		}
+		cost.updateLowerBound(bound.get(), this);
+	}
+
+	@Override
+	public void propagate(int evtmask) throws ContradictionException {
+		for (int p = 0; p < packing.getPairCount(); p++) {
+			check(p);
+		}
+		updateCost();
+	}
+
+	@Override
+	public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+		for (int p : pairs[idxVarInProp]) {
+			check(p);
+		}
+		updateCost();
+	}
+
+	public final int getCycleCount() {
+		return packing.getCycleCount();
+	}
+
+	public final long getTightenCount() {
+		return tightenCount;
+	}
+
+	@Override
+	public ESat isEntailed() {
+		return ESat.UNDEFINED;
+	}
+
+}
@@ -0,0 +1,202 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.choco;
+
+import java.util.Arrays;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+import gnu.trove.stack.array.TIntArrayStack;
+
+/**
+ * Transitivity of the orientations of the disjunctive graph on its 3-cycles.
+ *
+ * The triangles are not enumerated when building the model. When a cost
+ * variable is instantiated, the triangles containing its edge are checked
+ * against the instantiated cost variables, and only the violated transitivity
+ * cuts are enforced. The cuts that have been active at least once are
+ * recorded.
+ */
+public class PropLazyTransitivity extends Propagator<IntVar> {
+
+	private final int n;
+
+	private final int[] sources;
+	private final int[] targets;
+	// The values of the cost variable when the source is before/after the target.
+	private final int[] forwardValues;
+	private final int[] backwardValues;
+	// neighbors[i] are the sorted neighbors of i, and incidentEdges[i] the
+	// indices of the corresponding edges.
+	private final int[][] neighbors;
+	private final int[][] incidentEdges;
+
+	private final TLongSet activeCuts;
+
+	// Edges oriented by the propagator itself whose triangles must be checked.
+	private final TIntArrayStack stack;
+
+	/**
+	 * Build the propagator.
+	 *
+	 * @param n              the number of vertices of the disjunctive graph
+	 * @param sources        the sources of the edges
+	 * @param targets        the targets of the edges
+	 * @param forwardValues  the cost of an edge when its source is before its
+	 *                       target
+	 * @param backwardValues the cost of an edge when its source is after its
+	 *                       target
+	 * @param costs          the cost variables of the edges
+	 */
+	public PropLazyTransitivity(int n, int[] sources, int[] targets, int[] forwardValues, int[] backwardValues,
+			IntVar[] costs) {
+		super(costs, PropagatorPriority.LINEAR, true);
+		this.n = n;
+		this.sources = sources;
+		this.targets = targets;
+		this.forwardValues = forwardValues;
+		this.backwardValues = backwardValues;
+		this.neighbors = new int[n][];
+		this.incidentEdges = new int[n][];
+		buildAdjacency();
+		activeCuts = new TLongHashSet();
+		stack = new TIntArrayStack();
+	}
+
+	private void buildAdjacency() {
+		final int[] degrees = new int[n];
+		for (int e = 0; e < sources.length; e++) {
+			degrees[sources[e]]++;
+			degrees[targets[e]]++;
+		}
+		// Encode the neighbor and the edge in a long to sort them together.
+		final long[][] adj = new long[n][];
+		for (int i = 0; i < n; i++) {
+			adj[i] = new long[degrees[i]];
+		}
+		Arrays.fill(degrees, 0);
+		for (int e = 0; e < sources.length; e++) {
+			adj[sources[e]][degrees[sources[e]]++] = ((long) targets[e] << 32) | e;
+			adj[targets[e]][degrees[targets[e]]++] = ((long) sources[e] << 32) | e;
+		}
+		for (int i = 0; i < n; i++) {
+			Arrays.sort(adj[i]);
+			neighbors[i] = new int[adj[i].length];
+			incidentEdges[i] = new int[adj[i].length];
+			for (int k = 0; k < adj[i].length; k++) {
+				neighbors[i][k] = (int) (adj[i][k] >>> 32);
+				incidentEdges[i][k] = (int) adj[i][k];
+			}
+		}
+	}
+
+	@Override
+	public int getPropagationConditions(int vIdx) {
+		return IntEventType.instantiation();
+	}
+
+	private boolean isBefore(final int e, final int i) {
+		return vars[e].getValue() == forwardValues[e] ? sources[e] == i : targets[e] == i;
+	}
+
+	private int getValue(final int e, final int before) {
+		return sources[e] == before ? forwardValues[e] : backwardValues[e];
+	}
+
+	private void activate(final int i, final int j, final int k) {
+		final int a = Math.min(i, Math.min(j, k));
+		final int c = Math.max(i, Math.max(j, k));
+		final int b = i + j + k - a - c;
+		activeCuts.add(((long) a * n + b) * n + c);
+	}
+
+	private void orient(final int e, final int before, final int i, final int j, final int k)
+			throws ContradictionException {
+		final int value = getValue(e, before);
+		if (!vars[e].isInstantiatedTo(value)) {
+			activate(i, j, k);
+			vars[e].instantiateTo(value, this);
+			stack.push(e);
+		}
+	}
+
+	/**
+	 * Enforce the transitivity of the triangles containing the edge oriented from
+	 * i to j.
+	 */
+	private void propagateEdge(final int e) throws ContradictionException {
+		final int i = isBefore(e, sources[e]) ? sources[e] : targets[e];
+		final int j = sources[e] == i ? targets[e] : sources[e];
+		// Merge the sorted neighbors of i and j to find the common neighbors k.
+		final int[] nj = neighbors[j];
+		final int[] ni = neighbors[i];
+		int a = 0;
+		int b = 0;
+		while (a < nj.length && b < ni.length) {
+			if (nj[a] < ni[b]) {
+				a++;
+			} else if (nj[a] > ni[b]) {
+				b++;
+			} else {
+				final int k = nj[a];
+				final int jk = incidentEdges[j][a++];
+				final int ki = incidentEdges[i][b++];
+				// The cycle i -> j -> k -> i is forbidden.
+				if (vars[jk].isInstantiated() && isBefore(jk, j)) {
+					orient(ki, i, i, j, k);
+				} else if (vars[ki].isInstantiated() && isBefore(ki, k)) {
+					orient(jk, k, i, j, k);
+				}
+			}
+		}
+	}
+
+	private void propagateStack() throws ContradictionException {
+		try {
+			while (stack.size() > 0) {
+				propagateEdge(stack.pop());
+			}
+		} finally {
+			stack.clear();
+		}
+	}
+
+	@Override
+	public void propagate(int evtmask) throws ContradictionException {
+		for (int e = 0; e < vars.length; e++) {
+			if (vars[e].isInstantiated()) {
+				stack.push(e);
+			}
+		}
+		propagateStack();
+	}
+
+	@Override
+	public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+		stack.push(idxVarInProp);
+		propagateStack();
+	}
+
+	public final int getActiveCutCount() {
+		return activeCuts.size();
+	}
+
+	@Override
+	public ESat isEntailed() {
+		return ESat.UNDEFINED;
+	}
+
+}
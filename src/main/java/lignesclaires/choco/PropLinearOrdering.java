@@ -0,0 +1,172 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.choco;
+
+import java.util.Arrays;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+
+import gnu.trove.stack.array.TIntArrayStack;
+
+/**
+ * Transitivity of a linear ordering given by Boolean variables.
+ *
+ * The variable of an edge is true if and only if its source is before its
+ * target. The other pairs of vertices are ordered beforehand, and their order
+ * is given by the ranks of the vertices in a topological order. When a pair is
+ * ordered, the pairs i < k are deduced from i < j < k for all vertices k.
+ *
+ * The edges are indexed by per-vertex sorted arrays, so the memory is linear in
+ * the number of vertices and edges.
+ */
+public class PropLinearOrdering extends Propagator<BoolVar> {
+
+	private final int n;
+
+	private final int[] sources;
+	private final int[] targets;
+	// neighbors[i] are the sorted neighbors of i, and incidentEdges[i] the
+	// indices of the corresponding edges.
+	private final int[][] neighbors;
+	private final int[][] incidentEdges;
+	// i is before j beforehand if ranks[i] < ranks[j].
+	private final int[] ranks;
+
+	// Edges whose consequences must be deduced.
+	private final TIntArrayStack stack;
+
+	/**
+	 * Build the propagator.
+	 *
+	 * @param n       the number of vertices
+	 * @param sources the sources of the edges
+	 * @param targets the targets of the edges
+	 * @param ranks   the ranks of the vertices in a topological order of the
+	 *                pairs that are not edges
+	 * @param vars    the variables of the edges
+	 */
+	public PropLinearOrdering(int n, int[] sources, int[] targets, int[] ranks, BoolVar[] vars) {
+		super(vars, PropagatorPriority.CUBIC, true);
+		this.n = n;
+		this.sources = sources;
+		this.targets = targets;
+		this.ranks = ranks;
+		this.neighbors = new int[n][];
+		this.incidentEdges = new int[n][];
+		buildAdjacency();
+		stack = new TIntArrayStack();
+	}
+
+	private void buildAdjacency() {
+		final int[] degrees = new int[n];
+		for (int e = 0; e < sources.length; e++) {
+			degrees[sources[e]]++;
+			degrees[targets[e]]++;
+		}
+		// Encode the neighbor and the edge in a long to sort them together.
+		final long[][] adj = new long[n][];
+		for (int i = 0; i < n; i++) {
+			adj[i] = new long[degrees[i]];
+		}
+		Arrays.fill(degrees, 0);
+		for (int e = 0; e < sources.length; e++) {
+			adj[sources[e]][degrees[sources[e]]++] = ((long) targets[e] << 32) | e;
+			adj[targets[e]][degrees[targets[e]]++] = ((long) sources[e] << 32) | e;
+		}
+		for (int i = 0; i < n; i++) {
+			Arrays.sort(adj[i]);
+			neighbors[i] = new int[adj[i].length];
+			incidentEdges[i] = new int[adj[i].length];
+			for (int k = 0; k < adj[i].length; k++) {
+				neighbors[i][k] = (int) (adj[i][k] >>> 32);
+				incidentEdges[i][k] = (int) adj[i][k];
+			}
+		}
+	}
+
+	@Override
+	public int getPropagationConditions(int vIdx) {
+		return IntEventType.instantiation();
+	}
+
+	private int getEdge(final int i, final int j) {
+		final int k = Arrays.binarySearch(neighbors[i], j);
+		return k < 0 ? -1 : incidentEdges[i][k];
+	}
+
+	private boolean isBefore(final int i, final int j) {
+		final int e = getEdge(i, j);
+		return e < 0 ? ranks[i] < ranks[j] : vars[e].isInstantiatedTo(sources[e] == i ? 1 : 0);
+	}
+
+	private void setBefore(final int i, final int j) throws ContradictionException {
+		final int e = getEdge(i, j);
+		if (e < 0) {
+			if (ranks[i] > ranks[j]) {
+				fails();
+			}
+		} else if (vars[e].instantiateTo(sources[e] == i ? 1 : 0, this)) {
+			stack.push(e);
+		}
+	}
+
+	private void propagateEdge(final int e) throws ContradictionException {
+		final boolean forward = vars[e].getValue() == 1;
+		final int i = forward ? sources[e] : targets[e];
+		final int j = forward ? targets[e] : sources[e];
+		for (int k = 0; k < n; k++) {
+			if (k != i && k != j) {
+				if (isBefore(j, k)) {
+					setBefore(i, k);
+				}
+				if (isBefore(k, i)) {
+					setBefore(k, j);
+				}
+			}
+		}
+	}
+
+	private void propagateStack() throws ContradictionException {
+		try {
+			while (stack.size() > 0) {
+				propagateEdge(stack.pop());
+			}
+		} finally {
+			stack.clear();
+		}
+	}
+
+	@Override
+	public void propagate(int evtmask) throws ContradictionException {
+		// The pairs ordered beforehand are transitively closed.
+		for (int e = 0; e < vars.length; e++) {
+			if (vars[e].isInstantiated()) {
+				stack.push(e);
+			}
+		}
+		propagateStack();
+	}
+
+	@Override
+	public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+		stack.push(idxVarInProp);
+		propagateStack();
+	}
+
+	@Override
+	public ESat isEntailed() {
+		return ESat.UNDEFINED;
+	}
+
+}
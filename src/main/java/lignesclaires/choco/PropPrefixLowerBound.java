@@ -0,0 +1,130 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.choco;
+
+import org.chocosolver.memory.IStateBitSet;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import lignesclaires.graph.CrossingCounts;
+import lignesclaires.specs.IBipartiteGraph;
+
+/**
+ * Lower bound on the crossing count given by the instantiated prefix of the
+ * permutation.
+ *
+ * The reduced crossing counts of a placed vertex against all unplaced vertices
+ * are added once, when the vertex is placed. The remaining cost is bounded by
+ * the sum of the pairwise minima of the unplaced vertices, which is already
+ * part of the constant of the reduced crossing counts.
+ *
+ * The placement cost of each unplaced vertex is maintained incrementally, so
+ * placing a vertex is linear and filtering the next slot is linear in the size
+ * of its domain.
+ */
+public class PropPrefixLowerBound extends Propagator<IntVar> {
+
+	private final IntVar[] permutation;
+	private final IntVar cost;
+
+	private final CrossingCounts counts;
+	private final int constant;
+
+	private final IStateInt prefixLength;
+	private final IStateInt prefixCost;
+	private final IStateBitSet placed;
+
+	// placementCosts[v] is the cost of v before the unplaced vertices.
+	private final IStateInt[] placementCosts;
+
+	public PropPrefixLowerBound(IBipartiteGraph bigraph, IntVar[] permutation, IntVar cost) {
+		super(ArrayUtils.concat(permutation, cost), PropagatorPriority.LINEAR, false);
+		this.permutation = permutation;
+		this.cost = cost;
+		this.counts = bigraph.getReducedCrossingCounts();
+		this.constant = counts.getConstant();
+		prefixLength = getModel().getEnvironment().makeInt(0);
+		prefixCost = getModel().getEnvironment().makeInt(0);
+		placed = getModel().getEnvironment().makeBitSet(permutation.length);
+		final int n = permutation.length;
+		placementCosts = new IStateInt[n];
+		for (int v = 0; v < n; v++) {
+			int c = 0;
+			for (int u = 0; u < n; u++) {
+				if (u != v) {
+					c += counts.getCrossingCount(v, u);
+				}
+			}
+			placementCosts[v] = getModel().getEnvironment().makeInt(c);
+		}
+	}
+
+	@Override
+	public int getPropagationConditions(int vIdx) {
+		return vIdx < permutation.length ? IntEventType.instantiation() : IntEventType.upperBoundAndInst();
+	}
+
+	/**
+	 * Place the vertex and return its cost before the unplaced vertices.
+	 */
+	private int place(final int v) {
+		placed.set(v);
+		for (int u = placed.nextClearBit(0); u < permutation.length; u = placed.nextClearBit(u + 1)) {
+			placementCosts[u].add(-counts.getCrossingCount(u, v));
+		}
+		return placementCosts[v].get();
+	}
+
+	private void filterNextSlot(final IntVar slot, final int lb) throws ContradictionException {
+		final int ub = cost.getUB();
+		final DisposableValueIterator it = slot.getValueIterator(true);
+		try {
+			while (it.hasNext()) {
+				final int v = it.next();
+				if (lb + placementCosts[v].get() > ub) {
+					slot.removeValue(v, this);
+				}
+			}
+		} finally {
+			it.dispose();
+		}
+	}
+
+	@Override
+	public void propagate(int evtmask) throws ContradictionException {
+		final int n = permutation.length;
+		int k = prefixLength.get();
+		int pcost = prefixCost.get();
+		do {
+			while (k < n && permutation[k].isInstantiated()) {
+				pcost += place(permutation[k].getValue());
+				k++;
+			}
+			cost.updateLowerBound(constant + pcost, this);
+			if (k < n) {
+				filterNextSlot(permutation[k], constant + pcost);
+			}
+		} while (k < n && permutation[k].isInstantiated());
+		prefixLength.set(k);
+		prefixCost.set(pcost);
+	}
+
+	@Override
+	public ESat isEntailed() {
+		return ESat.UNDEFINED;
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.choco;
+
+import java.util.function.IntSupplier;
+
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.loop.monitors.IMonitorDownBranch;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+
+/**
+ * Upper bound of the minimization shared by concurrent workers.
+ *
+ * The objective manager of a solver is not thread-safe. So, the other workers
+ * only publish their bound, and the monitor pulls it on the thread of the
+ * solver before each decision and after each restart. The bound is applied by
+ * the dynamic cut of the next propagation.
+ */
+public class SharedBoundMonitor implements IMonitorDownBranch, IMonitorRestart {
+
+	private final Solver solver;
+
+	private final IntSupplier bound;
+
+	private long pullCount;
+
+	/**
+	 * Build the monitor.
+	 *
+	 * @param solver the solver of a minimization
+	 * @param bound  the shared bound, or {@link Integer#MAX_VALUE} if there is none
+	 */
+	public SharedBoundMonitor(final Solver solver, final IntSupplier bound) {
+		super();
+		this.solver = solver;
+		this.bound = bound;
+	}
+
+	/**
+	 * Plug a monitor pulling the shared bound into the solver.
+	 */
+	public static SharedBoundMonitor plug(final Solver solver, final IntSupplier bound) {
+		final SharedBoundMonitor monitor = new SharedBoundMonitor(solver, bound);
+		solver.plugMonitor(monitor);
+		return monitor;
+	}
+
+	/**
+	 * Update the best upper bound of the solver if the shared bound is better.
+	 */
+	public void pull() {
+		final int b = bound.getAsInt();
+		if (b < DualBoundMonitor.getPrimalBound(solver)) {
+			solver.getObjectiveManager().updateBestSolution(b);
+			pullCount++;
+		}
+	}
+
+	public final long getPullCount() {
+		return pullCount;
+	}
+
+	@Override
+	public void beforeDownBranch(final boolean left) {
+		pull();
+	}
+
+	@Override
+	public void afterRestart() {
+		pull();
+	}
+
+}
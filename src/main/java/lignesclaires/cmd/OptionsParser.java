@@ -1,7 +1,7 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
@@ -26,6 +26,7 @@ import org.kohsuke.args4j.ParserProperties;
 import org.kohsuke.args4j.spi.OptionHandler;
 
 import lignesclaires.config.LignesClairesConfig;
+import lignesclaires.solver.OCSubsetDPSolver;
 
 public class OptionsParser {
 
@@ -63,6 +64,11 @@ public class OptionsParser {
 	}
 
 	protected boolean checkConfiguration() {
+		if (config.getSubsetDPSize() > OCSubsetDPSolver.MAX_SIZE) {
+			getLogger().log(Level.SEVERE, "The size of the subset dynamic programming is at most {0}.",
+					OCSubsetDPSolver.MAX_SIZE);
+			return false;
+		}
 		return true;
 	}
 
@@ -1,7 +1,7 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
@@ -25,12 +25,13 @@ import lignesclaires.cmd.OCSearchOptionHandler;
 import lignesclaires.cmd.Verbosity;
 import lignesclaires.solver.OCModelFlag;
 import lignesclaires.solver.OCSearchFlag;
+import lignesclaires.solver.OCSolverType;
 
 /**
  * A bean object that stores the common configuration. This is designed for
  * args4j command line, but it is not restricted to it.
  */
-public class LignesClairesConfig {
+public class LignesClairesConfig implements Cloneable {
 
 	@Option(name = "-h", aliases = { "--help" }, usage = "Output a usage message and exit.")
 	private boolean displayHelp;
@@ -46,11 +47,11 @@ public class LignesClairesConfig {
 
 	@Option(name = "-m", aliases = {
 			"--model" }, handler = OCModelOptionHandler.class, usage = "Set the building strategy of the model.")
-	private EnumSet<OCModelFlag> modelMask = EnumSet.allOf(OCModelFlag.class);
+	private EnumSet<OCModelFlag> modelMask = EnumSet.complementOf(EnumSet.of(OCModelFlag.LO));
 
 	@Option(name = "-s", aliases = {
 			"--search" }, handler = OCSearchOptionHandler.class, usage = "Set the search strategy of the solver.")
-	private EnumSet<OCSearchFlag> searchMask = EnumSet.allOf(OCSearchFlag.class);
+	private EnumSet<OCSearchFlag> searchMask = EnumSet.complementOf(EnumSet.of(OCSearchFlag.LEARNING));
 
 	@Option(name = "--solution", usage = "Limit the number of solutions returned by the solver.")
 	private int solutionLimit = 0;
@@ -58,6 +59,63 @@ public class LignesClairesConfig {
 	@Option(name = "--time", usage = "Limit the time taken by the solver (in seconds).")
 	private long timeLimit = 1740;
 
+	@Option(name = "--gap-abs", usage = "Stop the solver when the difference between the bounds is at most k.")
+	private int absoluteGap;
+
+	@Option(name = "--gap-rel", usage = "Stop the solver when the relative gap between the bounds is at most r.")
+	private double relativeGap;
+
+	@Option(name = "--window", usage = "Set the width of the windows optimized by the heuristics (at most 16, 0 to disable it).")
+	private int windowWidth = 10;
+
+	@Option(name = "--solver", usage = "Set the solver used after the heuristics.")
+	private OCSolverType solverType = OCSolverType.CP;
+
+	@Option(name = "--workers", usage = "Set the number of parallel workers of the solver.")
+	private int workers = Runtime.getRuntime().availableProcessors();
+
+	@Option(name = "--eps-ratio", usage = "Set the number of subproblems by worker of the embarrassingly parallel search.")
+	private int subproblemRatio = 30;
+
+	@Option(name = "--guide", usage = "Guide the value selection by the incumbent permutation.")
+	private boolean guided;
+
+	@Option(name = "--certify", usage = "Certify the optimality of the heuristic solution by cheap lower bounds.")
+	private boolean certified;
+
+	@Option(name = "--kernel", usage = "Split the free nodes around the nodes whose position is forced by the heuristic upper bound.")
+	private boolean kernelized;
+
+	@Option(name = "--probe", usage = "Orient the incomparable pairs by probing against the upper bound.")
+	private boolean probing;
+
+	@Option(name = "--dp-size", usage = "Solve by dynamic programming over subsets when there are at most k free nodes (at most 25).")
+	private int subsetDPSize = 20;
+
+	@Option(name = "--ideal-budget", usage = "Limit the number of ideals of the dynamic programming over the poset of the reduction rules (0 to disable it).")
+	private int idealBudget;
+
+	@Option(name = "--lp-cuts", usage = "Limit the number of 3-cycle cuts of the linear relaxation solved before the search (0 to disable it).")
+	private int relaxationCuts;
+
+	@Option(name = "--lns-fails", usage = "Limit the number of fails of each move of the large neighborhood search.")
+	private int neighborFailLimit = 100;
+
+	@Option(name = "--port", usage = "Set the port listened by the coordinator of the distributed search (0 for any free port).")
+	private int port;
+
+	@Option(name = "--bind", metaVar = "HOST", usage = "Set the address listened by the coordinator of the distributed search (loopback by default).")
+	private String bindAddress;
+
+	@Option(name = "--connect", metaVar = "HOST:PORT", usage = "Run a worker of the distributed search connected to the coordinator.")
+	private String coordinator;
+
+	@Option(name = "--eager-trans", usage = "Post the transitivity constraints of all 3-cycles when building the model.")
+	private boolean eagerTransitivity;
+
+	@Option(name = "--lb-period", usage = "Run the assignment lower bound at most once every k search nodes.")
+	private int lowerBoundPeriod = 1;
+
 	/**
 	 * Receives other command line parameters than options.
 	 */
@@ -108,6 +166,165 @@ public class LignesClairesConfig {
 		return timeLimit;
 	}
 
+	/**
+	 * Get the deadline of the time limit.
+	 *
+	 * @param start the start time in milliseconds
+	 * @return the deadline in milliseconds, or Long.MAX_VALUE if there is no time
+	 *         limit
+	 */
+	public final long getDeadline(final long start) {
+		return timeLimit > 0 ? start + timeLimit * 1000 : Long.MAX_VALUE;
+	}
+
+	public final OCSolverType getSolverType() {
+		return solverType;
+	}
+
+	public final void setSolverType(final OCSolverType solverType) {
+		this.solverType = solverType;
+	}
+
+	public final int getAbsoluteGap() {
+		return absoluteGap;
+	}
+
+	public final void setAbsoluteGap(final int absoluteGap) {
+		this.absoluteGap = absoluteGap;
+	}
+
+	public final double getRelativeGap() {
+		return relativeGap;
+	}
+
+	public final void setRelativeGap(final double relativeGap) {
+		this.relativeGap = relativeGap;
+	}
+
+	public final int getWindowWidth() {
+		return windowWidth;
+	}
+
+	public final void setWindowWidth(final int windowWidth) {
+		this.windowWidth = windowWidth;
+	}
+
+	public final int getWorkers() {
+		return workers;
+	}
+
+	public final void setWorkers(final int workers) {
+		this.workers = workers;
+	}
+
+	public final int getSubproblemRatio() {
+		return subproblemRatio;
+	}
+
+	public final void setSubproblemRatio(final int subproblemRatio) {
+		this.subproblemRatio = subproblemRatio;
+	}
+
+	public final boolean isGuided() {
+		return guided;
+	}
+
+	public final void setGuided(final boolean guided) {
+		this.guided = guided;
+	}
+
+	public final boolean isCertified() {
+		return certified;
+	}
+
+	public final void setCertified(final boolean certified) {
+		this.certified = certified;
+	}
+
+	public final boolean isKernelized() {
+		return kernelized;
+	}
+
+	public final void setKernelized(final boolean kernelized) {
+		this.kernelized = kernelized;
+	}
+
+	public final boolean isProbing() {
+		return probing;
+	}
+
+	public final void setProbing(final boolean probing) {
+		this.probing = probing;
+	}
+
+	public final int getSubsetDPSize() {
+		return subsetDPSize;
+	}
+
+	public final void setSubsetDPSize(final int subsetDPSize) {
+		this.subsetDPSize = subsetDPSize;
+	}
+
+	public final int getIdealBudget() {
+		return idealBudget;
+	}
+
+	public final void setIdealBudget(final int idealBudget) {
+		this.idealBudget = idealBudget;
+	}
+
+	public final int getRelaxationCuts() {
+		return relaxationCuts;
+	}
+
+	public final void setRelaxationCuts(final int relaxationCuts) {
+		this.relaxationCuts = relaxationCuts;
+	}
+
+	public final int getNeighborFailLimit() {
+		return neighborFailLimit;
+	}
+
+	public final void setNeighborFailLimit(final int neighborFailLimit) {
+		this.neighborFailLimit = neighborFailLimit;
+	}
+
+	public final int getPort() {
+		return port;
+	}
+
+	public final void setPort(final int port) {
+		this.port = port;
+	}
+
+	public final Optional<String> getBindAddress() {
+		return Optional.ofNullable(bindAddress);
+	}
+
+	public final void setBindAddress(final String bindAddress) {
+		this.bindAddress = bindAddress;
+	}
+
+	public final Optional<String> getCoordinator() {
+		return Optional.ofNullable(coordinator);
+	}
+
+	public final boolean isEagerTransitivity() {
+		return eagerTransitivity;
+	}
+
+	public final void setEagerTransitivity(boolean eagerTransitivity) {
+		this.eagerTransitivity = eagerTransitivity;
+	}
+
+	public final int getLowerBoundPeriod() {
+		return lowerBoundPeriod;
+	}
+
+	public final void setLowerBoundPeriod(final int lowerBoundPeriod) {
+		this.lowerBoundPeriod = lowerBoundPeriod;
+	}
+
 	public boolean contains(OCModelFlag flag) {
 		return modelMask.contains(flag);
 	}
@@ -165,6 +382,38 @@ public class LignesClairesConfig {
 		searchMask = OCModelOptionHandler.of(OCSearchFlag.class, mask);
 	}
 
+	public final EnumSet<OCModelFlag> getModelMask() {
+		return EnumSet.copyOf(modelMask);
+	}
+
+	public final void setModelMask(final EnumSet<OCModelFlag> mask) {
+		modelMask = EnumSet.copyOf(mask);
+	}
+
+	public final EnumSet<OCSearchFlag> getSearchMask() {
+		return EnumSet.copyOf(searchMask);
+	}
+
+	public final void setSearchMask(final EnumSet<OCSearchFlag> mask) {
+		searchMask = EnumSet.copyOf(mask);
+	}
+
+	/**
+	 * Copy the configuration, for instance to configure a worker.
+	 *
+	 * @return a shallow copy of the configuration with its own flags
+	 */
+	public LignesClairesConfig copy() {
+		try {
+			final LignesClairesConfig config = (LignesClairesConfig) super.clone();
+			config.modelMask = getModelMask();
+			config.searchMask = getSearchMask();
+			return config;
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder b = new StringBuilder();
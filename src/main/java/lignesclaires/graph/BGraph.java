@@ -1,7 +1,7 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
@@ -16,8 +16,6 @@ import org.jgrapht.Graphs;
 import org.jgrapht.graph.DefaultEdge;
 
 import gnu.trove.list.array.TIntArrayList;
-import gnu.trove.set.TIntSet;
-import gnu.trove.set.hash.TIntHashSet;
 import lignesclaires.specs.IBipartiteGraph;
 
 public class BGraph extends DefaultGraph<Integer, DefaultEdge> implements IBipartiteGraph {
@@ -32,11 +30,18 @@ public class BGraph extends DefaultGraph<Integer, DefaultEdge> implements IBipar
 
 	private Optional<CrossingCounts> reducedCrossingCounts;
 
+	private final Optional<int[]> cutwidthOrdering;
+
 	public BGraph(Graph<Integer, DefaultEdge> graph, int fixedCount, int freeCount) {
+		this(graph, fixedCount, freeCount, Optional.empty());
+	}
+
+	public BGraph(Graph<Integer, DefaultEdge> graph, int fixedCount, int freeCount, Optional<int[]> cutwidthOrdering) {
 		super(graph);
 		this.fixedCount = fixedCount;
 		this.freeCount = freeCount;
 		this.freeOffset = fixedCount + 1;
+		this.cutwidthOrdering = cutwidthOrdering;
 		freeAdjLists = Optional.empty();
 		crossingCounts = Optional.empty();
 		reducedCrossingCounts = Optional.empty();
@@ -81,31 +86,43 @@ public class BGraph extends DefaultGraph<Integer, DefaultEdge> implements IBipar
 		return freeAdjLists.get();
 	}
 
-	public void computeCutwidth() {
+	/**
+	 * Gets the linear ordering of the vertices given with the cutwidth in the
+	 * parameterized track.
+	 */
+	public final Optional<int[]> getCutwidthOrdering() {
+		return cutwidthOrdering;
+	}
+
+	/**
+	 * Sweeps the fixed layer and gets the maximum number of free nodes which are
+	 * cut by the sweep, that is with neighbors on both sides of the sweep line.
+	 * The orders of the free nodes which are not cut are fixed by their spans.
+	 *
+	 * @return the maximum number of cut free nodes
+	 */
+	public int computeCutwidth() {
 		final int n = getFixedCount();
 		final int m = getFreeCount();
 		final int[] cut = new int[m];
-		TIntArrayList[] adjLists = getFreeAdjacencyLists();
-		TIntSet freeIn = new TIntHashSet();
-		TIntSet freeCut = new TIntHashSet();
-		TIntArrayList fixedCut = new TIntArrayList();
+		final TIntArrayList[] adjLists = getFreeAdjacencyLists();
+		int freeCut = 0;
+		int cutwidth = 0;
 		for (int i = 1; i <= n; i++) {
-			for (int free : Graphs.successorListOf(graph, i)) {
-				int j = free - freeOffset;
+			for (int free : Graphs.neighborListOf(graph, i)) {
+				final int j = free - freeOffset;
 				if (cut[j] == 0) {
 					cut[j] = adjLists[j].size();
-					freeCut.add(j);
+					freeCut++;
 				}
 				cut[j]--;
 				if (cut[j] == 0) {
-					freeCut.remove(j);
-					freeIn.add(j);
+					freeCut--;
 				}
-
 			}
-			System.out.println(i + "\n" + freeIn + "\n" + freeCut + "\n");
+			cutwidth = Math.max(cutwidth, freeCut);
 		}
-		System.err.println("Test");
+		return cutwidth;
 	}
 
 	@Override
@@ -124,6 +141,22 @@ public class BGraph extends DefaultGraph<Integer, DefaultEdge> implements IBipar
 		return i -> TListUtil.getBarycenter(adjLists[i]);
 	}
 
+	/**
+	 * Gets the span of each free node, that is its first and last fixed
+	 * neighbors. The span of an isolated node is empty.
+	 *
+	 * @return the pairs of first and last neighbors
+	 */
+	public final int[][] getFreeSpans() {
+		final TIntArrayList[] adjLists = getFreeAdjacencyLists();
+		final int[][] spans = new int[freeCount][];
+		for (int i = 0; i < freeCount; i++) {
+			spans[i] = adjLists[i].isEmpty() ? new int[] { Integer.MAX_VALUE, Integer.MIN_VALUE }
+					: new int[] { adjLists[i].get(0), adjLists[i].get(adjLists[i].size() - 1) };
+		}
+		return spans;
+	}
+
 	public Integer[] permutateMedians() {
 		final TIntArrayList[] adjLists = getFreeAdjacencyLists();
 		return TListUtil.permutate(getFreeCount(), i -> TListUtil.getMedian(adjLists[i]));
@@ -1,147 +1,180 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
  */
 package lignesclaires.graph;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Arrays;
+import java.util.stream.IntStream;
 
 import org.jgrapht.Graph;
 import org.jgrapht.GraphTests;
-import org.jgrapht.Graphs;
-import org.jgrapht.util.CollectionUtil;
+
+import gnu.trove.list.array.TIntArrayList;
 
 /**
- * Collection of methods which provide numerical graph information.
+ * Enumeration of the triangles of an undirected graph given by int-indexed
+ * adjacency lists.
  *
- * @see org.jgrapht.GraphMetrics
- * 
+ * The vertices are ranked by degree and each edge is oriented from the lower
+ * to the higher rank. A triangle is found once, from its lowest ranked vertex,
+ * by intersecting the sorted forward neighborhoods of the endpoints of an edge.
+ * This is the $O(|E|^{3/2})$ forward algorithm of Schank and Wagner.
  */
-public abstract class GraphTriangles {
+public final class GraphTriangles {
+
+	private GraphTriangles() {
+		super();
+	}
 
-	public interface ITriangleConsumer<V> {
+	public interface ITriangleConsumer {
 
-		void accept(V i, V j, V k);
+		void accept(int i, int j, int k);
 	}
 
 	/**
-	 * An $O(|V|^3)$ (assuming vertexSubset provides constant time indexing) naive
-	 * implementation for counting non-trivial triangles in an undirected graph
-	 * induced by the subset of vertices.
-	 *
-	 * @param graph        the input graph
-	 * @param vertexSubset the vertex subset
-	 * @param <V>          the graph vertex type
-	 * @param <E>          the graph edge type
-	 * @return the number of triangles in the graph induced by vertexSubset
+	 * The forward neighborhoods of the vertices sorted by degree.
 	 */
-	static <V, E> void naiveForEachTriangle(Graph<V, E> graph, List<V> vertexSubset, ITriangleConsumer<V> consumer) {
+	private static final class ForwardLists {
+
+		// vertices[r] is the vertex of rank r.
+		private final int[] vertices;
+		// neighbors[r] are the sorted ranks of the neighbors with a higher rank.
+		private final int[][] neighbors;
+
+		ForwardLists(final int[][] adjLists) {
+			final int n = adjLists.length;
+			final long[] keys = new long[n];
+			for (int v = 0; v < n; v++) {
+				keys[v] = ((long) adjLists[v].length << 32) | v;
+			}
+			Arrays.sort(keys);
+			vertices = new int[n];
+			final int[] ranks = new int[n];
+			for (int r = 0; r < n; r++) {
+				vertices[r] = (int) keys[r];
+				ranks[vertices[r]] = r;
+			}
+			neighbors = new int[n][];
+			for (int r = 0; r < n; r++) {
+				final int rank = r;
+				neighbors[r] = IntStream.of(adjLists[vertices[r]]).map(u -> ranks[u]).filter(s -> s > rank).sorted()
+						.toArray();
+			}
+		}
 
-		for (int i = 0; i < vertexSubset.size(); i++) {
-			for (int j = i + 1; j < vertexSubset.size(); j++) {
-				for (int k = j + 1; k < vertexSubset.size(); k++) {
-					V u = vertexSubset.get(i);
-					V v = vertexSubset.get(j);
-					V w = vertexSubset.get(k);
+		int size() {
+			return vertices.length;
+		}
 
-					if (graph.containsEdge(u, v) && graph.containsEdge(v, w) && graph.containsEdge(w, u)) {
-						consumer.accept(u, v, w);
+		void forEachTriangle(final int r, final ITriangleConsumer consumer) {
+			final int[] a = neighbors[r];
+			for (int p0 = 0; p0 < a.length; p0++) {
+				final int[] b = neighbors[a[p0]];
+				int p = p0 + 1;
+				int q = 0;
+				while (p < a.length && q < b.length) {
+					if (a[p] < b[q]) {
+						p++;
+					} else if (a[p] > b[q]) {
+						q++;
+					} else {
+						consumer.accept(vertices[r], vertices[a[p0]], vertices[a[p]]);
+						p++;
+						q++;
 					}
 				}
 			}
 		}
+
+		int[] collectTriangles(final int r) {
+			final TIntArrayList triangles = new TIntArrayList();
+			forEachTriangle(r, (i, j, k) -> {
+				triangles.add(i);
+				triangles.add(j);
+				triangles.add(k);
+			});
+			return triangles.toArray();
+		}
 	}
 
 	/**
-	 * An $O(|E|^{3/2})$ algorithm for counting the number of non-trivial triangles
-	 * in an undirected graph. A non-trivial triangle is formed by three distinct
-	 * vertices all connected to each other.
-	 *
-	 * <p>
-	 * For more details of this algorithm see Ullman, Jeffrey: "Mining of Massive
-	 * Datasets", Cambridge University Press, Chapter 10
+	 * Build the adjacency lists of a graph whose vertices are 0, ..., n-1.
 	 *
-	 * @param graph the input graph
-	 * @param <V>   the graph vertex type
-	 * @param <E>   the graph edge type
-	 * @return the number of triangles in the graph
-	 * @throws NullPointerException     if {@code graph} is {@code null}
-	 * @throws IllegalArgumentException if {@code graph} is not undirected
+	 * @param graph the undirected graph
+	 * @param n     the number of vertices
+	 * @return the adjacency lists
 	 */
-	public static <V, E> void forEachTriangle(Graph<V, E> graph, ITriangleConsumer<V> consumer) {
+	public static <E> int[][] toAdjacencyLists(final Graph<Integer, E> graph, final int n) {
 		GraphTests.requireUndirected(graph);
-
-		final int sqrtV = (int) Math.sqrt(graph.vertexSet().size());
-
-		List<V> vertexList = new ArrayList<>(graph.vertexSet());
-
-		/*
-		 * The book suggest the following comparator: "Compare vertices based on their
-		 * degree. If equal compare them of their actual value, since they are all
-		 * integers".
-		 */
-
-		// Fix vertex order for unique comparison of vertices
-		Map<V, Integer> vertexOrder = CollectionUtil.newHashMapWithExpectedSize(graph.vertexSet().size());
-		int k = 0;
-		for (V v : graph.vertexSet()) {
-			vertexOrder.put(v, k++);
-		}
-
-		Comparator<V> comparator = Comparator.comparingInt(graph::degreeOf).thenComparingInt(System::identityHashCode)
-				.thenComparingInt(vertexOrder::get);
-
-		vertexList.sort(comparator);
-
-		// vertex v is a heavy-hitter iff degree(v) >= sqrtV
-		List<V> heavyHitterVertices = vertexList.stream().filter(x -> graph.degreeOf(x) >= sqrtV)
-				.collect(Collectors.toCollection(ArrayList::new));
-
-		// count the number of triangles formed from only heavy-hitter vertices
-		naiveForEachTriangle(graph, heavyHitterVertices, consumer);
-
-		for (E edge : graph.edgeSet()) {
-			V v1 = graph.getEdgeSource(edge);
-			V v2 = graph.getEdgeTarget(edge);
-
-			if (v1 == v2) {
-				continue;
+		final TIntArrayList[] lists = TListUtil.createArrayOfTLists(n);
+		for (E e : graph.edgeSet()) {
+			final int i = graph.getEdgeSource(e);
+			final int j = graph.getEdgeTarget(e);
+			if (i != j) {
+				lists[i].add(j);
+				lists[j].add(i);
 			}
+		}
+		final int[][] adjLists = new int[n][];
+		for (int i = 0; i < n; i++) {
+			adjLists[i] = lists[i].toArray();
+		}
+		return adjLists;
+	}
 
-			if (graph.degreeOf(v1) < sqrtV || graph.degreeOf(v2) < sqrtV) {
-				// ensure that v1 <= v2 (swap them otherwise)
-				if (comparator.compare(v1, v2) > 0) {
-					V tmp = v1;
-					v1 = v2;
-					v2 = tmp;
-				}
+	/**
+	 * Apply the consumer to each triangle of the graph.
+	 *
+	 * @param adjLists the adjacency lists of a simple undirected graph
+	 * @param consumer the consumer
+	 */
+	public static void forEachTriangle(final int[][] adjLists, final ITriangleConsumer consumer) {
+		final ForwardLists fwd = new ForwardLists(adjLists);
+		for (int r = 0; r < fwd.size(); r++) {
+			fwd.forEachTriangle(r, consumer);
+		}
+	}
 
-				for (E e : graph.edgesOf(v1)) {
-					V u = Graphs.getOppositeVertex(graph, e, v1);
+	/**
+	 * Apply the consumer to each triangle of the graph using several threads.
+	 *
+	 * @param adjLists the adjacency lists of a simple undirected graph
+	 * @param consumer the thread-safe consumer
+	 */
+	public static void parallelForEachTriangle(final int[][] adjLists, final ITriangleConsumer consumer) {
+		final ForwardLists fwd = new ForwardLists(adjLists);
+		IntStream.range(0, fwd.size()).parallel().forEach(r -> fwd.forEachTriangle(r, consumer));
+	}
 
-					// check if the triangle is non-trivial: u, v1, v2 are distinct vertices
-					if (u == v1 || u == v2) {
-						continue;
-					}
+	/**
+	 * Enumerate the triangles of the graph using several threads.
+	 *
+	 * @param adjLists the adjacency lists of a simple undirected graph
+	 * @return the vertices of the triangles, three consecutive values by triangle
+	 */
+	public static int[] collectTriangles(final int[][] adjLists) {
+		final ForwardLists fwd = new ForwardLists(adjLists);
+		return IntStream.range(0, fwd.size()).parallel().mapToObj(fwd::collectTriangles).flatMapToInt(IntStream::of)
+				.toArray();
+	}
 
-					/*
-					 * Check if v2 <= u and if (u, v2) is a valid edge. If both of them are true,
-					 * then we have a new triangle (v1, v2, u) and all three vertices in the
-					 * triangle are ordered (v1 <= v2 <= u) so we count it only once.
-					 */
-					if (comparator.compare(v2, u) <= 0 && graph.containsEdge(u, v2)) {
-						consumer.accept(v1, v2, u);
-					}
-				}
-			}
+	/**
+	 * Apply the consumer to each triangle of the graph. The triangles are
+	 * enumerated in parallel, but the consumer is called by the current thread.
+	 *
+	 * @param adjLists the adjacency lists of a simple undirected graph
+	 * @param consumer the consumer
+	 */
+	public static void forEachCollectedTriangle(final int[][] adjLists, final ITriangleConsumer consumer) {
+		final int[] triangles = collectTriangles(adjLists);
+		for (int t = 0; t < triangles.length; t += 3) {
+			consumer.accept(triangles[t], triangles[t + 1], triangles[t + 2]);
 		}
 	}
+
 }
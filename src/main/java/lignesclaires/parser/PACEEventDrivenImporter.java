@@ -1,7 +1,7 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.jgrapht.alg.util.Triple;
 import org.jgrapht.nio.BaseEventDrivenImporter;
@@ -37,6 +38,8 @@ public class PACEEventDrivenImporter extends BaseEventDrivenImporter<Integer, Tr
 
 	private List<BiConsumer<Integer, Integer>> partitionCountConsumers;
 
+	private List<Consumer<int[]>> orderingConsumers;
+
 	private Map<String, Integer> vertexMap;
 	private int nextId;
 
@@ -49,6 +52,7 @@ public class PACEEventDrivenImporter extends BaseEventDrivenImporter<Integer, Tr
 		this.renumberVertices = true;
 		this.vertexMap = new HashMap<>();
 		this.partitionCountConsumers = new ArrayList<>();
+		this.orderingConsumers = new ArrayList<>();
 	}
 
 	/**
@@ -69,6 +73,25 @@ public class PACEEventDrivenImporter extends BaseEventDrivenImporter<Integer, Tr
 		partitionCountConsumers.forEach(c -> c.accept(fixedCount, freeCount));
 	}
 
+	/**
+	 * Add a consumer of the linear ordering of the vertices given with the
+	 * cutwidth.
+	 * 
+	 * @param consumer the consumer
+	 */
+	public void addOrderingConsumer(Consumer<int[]> consumer) {
+		orderingConsumers.add(consumer);
+	}
+
+	/**
+	 * Notify for the linear ordering of the vertices.
+	 * 
+	 * @param ordering the vertices in order
+	 */
+	protected void notifyOrdering(int[] ordering) {
+		orderingConsumers.forEach(c -> c.accept(ordering));
+	}
+
 	/**
 	 * Set whether to use zero-based numbering for vertices.
 	 * 
@@ -118,7 +141,12 @@ public class PACEEventDrivenImporter extends BaseEventDrivenImporter<Integer, Tr
 		notifyImportEvent(ImportEvent.START);
 
 		// Dimensions
-		notifyDimensions(in);
+		final int orderingLength = notifyDimensions(in);
+
+		// Cutwidth ordering of the parameterized track
+		if (orderingLength > 0) {
+			notifyOrdering(readOrdering(in, orderingLength));
+		}
 
 		// add edges
 		String[] cols = skipComments(in);
@@ -179,18 +207,42 @@ public class PACEEventDrivenImporter extends BaseEventDrivenImporter<Integer, Tr
 		return cols;
 	}
 
-	private void notifyDimensions(BufferedReader input) throws ImportException {
+	private int[] readOrdering(BufferedReader input, int length) throws ImportException {
+		final int[] ordering = new int[length];
+		for (int i = 0; i < length; i++) {
+			final String[] cols = skipComments(input);
+			if (cols == null || cols.length != 1) {
+				throw new ImportException("Failed to parse ordering:" + Arrays.toString(cols));
+			}
+			try {
+				ordering[i] = mapVertexToInteger(cols[0]);
+			} catch (NumberFormatException e) {
+				throw new ImportException("Failed to parse ordering node:" + e.getMessage(), e);
+			}
+		}
+		return ordering;
+	}
+
+	/**
+	 * Notify the dimensions given by the problem line
+	 * <code>p ocr fixed free edges [cutwidth]</code>.
+	 * 
+	 * @return the length of the ordering that follows the problem line, that is
+	 *         0 if the cutwidth is not given
+	 */
+	private int notifyDimensions(BufferedReader input) throws ImportException {
 		final String[] cols = skipComments(input);
 		if (cols != null && cols[0].equals("p") && cols.length >= 5) {
 			try {
 				final int fixedCount = Integer.parseInt(cols[2]);
 				final int freeCount = Integer.parseInt(cols[3]);
 				final int edgeCount = Integer.parseInt(cols[4]);
+				final int cutwidth = cols.length > 5 ? Integer.parseInt(cols[5]) : -1;
 				if (fixedCount >= 0 && freeCount >= 0 && edgeCount >= 0) {
 					notifyVertexCount(fixedCount + freeCount);
 					notifyPartitionCount(fixedCount, freeCount);
 					notifyEdgeCount(edgeCount);
-					return;
+					return cutwidth >= 0 ? fixedCount + freeCount : 0;
 				}
 			} catch (NumberFormatException e) {
 				// Fails at exit
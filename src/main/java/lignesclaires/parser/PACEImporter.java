@@ -1,7 +1,7 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
@@ -11,6 +11,7 @@ package lignesclaires.parser;
 import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -45,6 +46,8 @@ public class PACEImporter<V, E> extends BaseEventDrivenImporter<V, E> implements
 
 	private int freeCount;
 
+	private Optional<int[]> ordering = Optional.empty();
+
 	/**
 	 * Construct a new DIMACSImporter
 	 * 
@@ -78,6 +81,16 @@ public class PACEImporter<V, E> extends BaseEventDrivenImporter<V, E> implements
 		this.freeCount = freeCount;
 	}
 
+	/**
+	 * Get the linear ordering of the vertices given with the cutwidth in the
+	 * parameterized track.
+	 * 
+	 * @return the vertices in order
+	 */
+	public final Optional<int[]> getOrdering() {
+		return ordering;
+	}
+
 	/**
 	 * Get the user custom vertex factory. This is null by default and the graph
 	 * supplier is used instead.
@@ -126,6 +139,7 @@ public class PACEImporter<V, E> extends BaseEventDrivenImporter<V, E> implements
 		Consumers consumers = new Consumers(graph);
 		genericImporter.addPartitionCountConsumer(consumers.partitionCountConsumer);
 		genericImporter.addVertexCountConsumer(consumers.nodeCountConsumer);
+		genericImporter.addOrderingConsumer(consumers.orderingConsumer);
 		genericImporter.addEdgeConsumer(consumers.edgeConsumer);
 		genericImporter.importInput(input);
 	}
@@ -144,6 +158,8 @@ public class PACEImporter<V, E> extends BaseEventDrivenImporter<V, E> implements
 			freeCount = free;
 		};
 
+		public final Consumer<int[]> orderingConsumer = o -> ordering = Optional.of(o);
+
 		public final Consumer<Integer> nodeCountConsumer = n -> {
 			for (int i = 1; i <= n; i++) {
 				V v;
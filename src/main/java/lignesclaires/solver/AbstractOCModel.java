@@ -0,0 +1,213 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.logging.Level;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainLast;
+import org.chocosolver.solver.search.strategy.selectors.values.IntValueSelector;
+import org.chocosolver.solver.variables.IntVar;
+
+import lignesclaires.LignesClaires;
+import lignesclaires.choco.PropAssignmentLowerBound;
+import lignesclaires.choco.PropCyclePackingLowerBound;
+import lignesclaires.choco.PropLazyTransitivity;
+import lignesclaires.config.LignesClairesConfig;
+import lignesclaires.specs.IBipartiteGraph;
+import lignesclaires.specs.IChocoModel;
+
+/**
+ * Common part of the Choco models of the one-sided crossing minimization: the
+ * objective variable, the bounds, the restarts and the solutions.
+ */
+public abstract class AbstractOCModel implements IChocoModel {
+
+	protected final IBipartiteGraph bigraph;
+
+	protected final LignesClairesConfig config;
+
+	protected final Model model;
+
+	protected final IntVar objective;
+
+	private Solution guide;
+
+	private OptionalInt upperBound = OptionalInt.empty();
+
+	protected AbstractOCModel(final IBipartiteGraph bigraph, final LignesClairesConfig config) {
+		super();
+		this.bigraph = bigraph;
+		this.config = config;
+		model = new Model("OCM");
+		final int m = bigraph.getEdgeCount();
+		objective = model.intVar("objective", 0, m * m);
+		model.setObjective(false, objective);
+	}
+
+	public IBipartiteGraph getGraph() {
+		return bigraph;
+	}
+
+	public IntVar getCrossingCountVar() {
+		return objective;
+	}
+
+	@Override
+	public final Model getModel() {
+		return model;
+	}
+
+	/**
+	 * Post the constraints of the model.
+	 */
+	public abstract void buildModel();
+
+	public abstract void configureSearch();
+
+	public void postUpperBound(OptionalInt ub) {
+		upperBound = ub;
+		ub.ifPresent(v -> {
+			objective.lt(v).post();
+			// The bound is also known by the objective manager for the gap.
+			getSolver().getObjectiveManager().updateBestSolution(v);
+		});
+	}
+
+	/**
+	 * Build the reduction rules. If the upper bound is posted, the incomparable
+	 * pairs are also oriented by probing, and the model is unsatisfiable if the
+	 * probing proves that no solution is below the upper bound.
+	 */
+	protected ReductionRules buildReductionRules() {
+		final ReductionRules rules = new ReductionRules(bigraph, config.contains(OCModelFlag.RR1),
+				config.contains(OCModelFlag.RR2), config.contains(OCModelFlag.RR3));
+		if (config.isProbing() && upperBound.isPresent()) {
+			final PairProbing probing = new PairProbing(rules);
+			final Optional<List<int[]>> oriented = probing.probe(upperBound.getAsInt());
+			if (oriented.isPresent()) {
+				rules.addOrderedEdges(oriented.get());
+			} else {
+				model.falseConstraint().post();
+			}
+			LignesClaires.LOGGER.log(Level.INFO, "Probing:\nd PROBE_ROUNDS {0}\nd PROBE_ORIENTED {1}",
+					new Object[] { probing.getRoundCount(), oriented.map(List::size).orElse(-1) });
+		}
+		return rules;
+	}
+
+	/**
+	 * Post a lower bound computed before the search, for instance by a
+	 * relaxation.
+	 */
+	public void postRootLowerBound(final int lb) {
+		objective.ge(lb).post();
+	}
+
+	protected void postLowerBound() {
+		final int lb = bigraph.getEdgeCount() - bigraph.getNodeCount() + 1;
+		objective.ge(lb).decompose().post();
+	}
+
+	public void configureRestarts() {
+		final int n = bigraph.getFreeCount();
+		getSolver().setGeometricalRestart(n, 1.1, new FailCounter(model, 1), n);
+		getSolver().setNoGoodRecordingFromRestarts();
+	}
+
+	/**
+	 * Learn signed clauses from the explanations of the failures.
+	 */
+	public void configureLearning() {
+		getSolver().setLearningSignedClauses();
+	}
+
+	/**
+	 * Guide the value selection by a solution (phase saving). The guide is the
+	 * initial permutation until the first solution, and then the last solution.
+	 * It must be configured before the search.
+	 *
+	 * @param initialSolution the initial solution
+	 */
+	public void configureGuide(final OCSolution initialSolution) {
+		guide = createGuide(initialSolution.getPermutation().map(this::toFreeIndices));
+		getSolver().attach(guide);
+	}
+
+	/**
+	 * Create a solution on the decision variables, set to the given order if
+	 * any.
+	 *
+	 * @param order the indices (from 0) of the free nodes in order
+	 * @return the guide
+	 */
+	protected abstract Solution createGuide(Optional<int[]> order);
+
+	/**
+	 * Select the value of the guide if it is in the domain, and otherwise use
+	 * the selector.
+	 */
+	protected final IntValueSelector guided(final IntValueSelector selector) {
+		return guide == null ? selector : new IntDomainLast(guide, selector, null);
+	}
+
+	public Optional<PropAssignmentLowerBound> getAssignmentLowerBound() {
+		return Optional.empty();
+	}
+
+	public Optional<PropLazyTransitivity> getLazyTransitivity() {
+		return Optional.empty();
+	}
+
+	public Optional<PropCyclePackingLowerBound> getCyclePackingLowerBound() {
+		return Optional.empty();
+	}
+
+	public abstract Solution createSolution();
+
+	/**
+	 * Gets the free nodes sorted by position in a solution.
+	 *
+	 * @param s the solution
+	 * @return the indices (from 0) of the free nodes
+	 */
+	protected abstract int[] getOrder(Solution s);
+
+	final int[] toFreeIndices(final int[] permutation) {
+		final int offset = bigraph.getFreeNode(0);
+		final int[] order = new int[permutation.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = permutation[i] - offset;
+		}
+		return order;
+	}
+
+	public final int[] recordSolution(final Solution s) {
+		final int[] values = getOrder(s);
+		for (int i = 0; i < values.length; i++) {
+			values[i] = bigraph.getFreeNode(values[i]);
+		}
+		return values;
+	}
+
+	public final String printSolution(final Solution s) {
+		final StringBuilder b = new StringBuilder();
+		b.append('v');
+		for (int v : getOrder(s)) {
+			b.append(' ').append(v);
+		}
+		return b.toString();
+	}
+
+}
@@ -0,0 +1,235 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import gnu.trove.list.array.TIntArrayList;
+import lignesclaires.graph.CrossingCounts;
+
+/**
+ * Lower bound given by a greedy packing of directed 3-cycles.
+ *
+ * An incomparable pair is an arc in its cheap orientation whose weight is the
+ * reduced count of the other orientation. A comparable pair is an arc of
+ * infinite weight. A linear order reverses at least one arc of each 3-cycle. So,
+ * if the weights of the arcs are shared among the cycles, the sum of the
+ * shares is a lower bound of the reduced counts of the incomparable pairs. The
+ * cycles are packed greedily at the root, each one with the minimum residual
+ * weight of its arcs.
+ *
+ * During search, a cycle is dropped if one of its arcs is reversed, and the
+ * weight of the reversed arc is added instead.
+ */
+public class CyclePacking {
+
+	private static final int NONE = -2;
+
+	private static final int FIXED = -1;
+
+	// The constant of the reduced counts plus the counts of the comparable pairs.
+	private final int constant;
+
+	private final int[] sources;
+
+	private final int[] targets;
+
+	private final int[] weights;
+
+	// cycles[c] are the incomparable pairs of the cycle c.
+	private final int[][] cycles;
+
+	private final int[] values;
+
+	private final int packedValue;
+
+	public CyclePacking(final ReductionRules rules) {
+		super();
+		final CrossingCounts counts = rules.getBiGraph().getReducedCrossingCounts();
+		final int n = rules.getBiGraph().getFreeCount();
+		// arcs[i][j] is the index of the incomparable pair, FIXED or NONE.
+		final int[][] arcs = new int[n][n];
+		for (int[] row : arcs) {
+			Arrays.fill(row, NONE);
+		}
+		final int[] c = { counts.getConstant() };
+		rules.forEachComparableEdge((i, j) -> {
+			c[0] += counts.getCrossingCount(i, j);
+			arcs[i][j] = FIXED;
+		});
+		constant = c[0];
+		final TIntArrayList src = new TIntArrayList();
+		final TIntArrayList dest = new TIntArrayList();
+		final TIntArrayList w = new TIntArrayList();
+		rules.forEachIncomparableEdge((i, j) -> {
+			final int cij = counts.getCrossingCount(i, j);
+			final int cji = counts.getCrossingCount(j, i);
+			if (cij != cji) {
+				final int s = cij < cji ? i : j;
+				final int t = cij < cji ? j : i;
+				arcs[s][t] = src.size();
+				src.add(s);
+				dest.add(t);
+				w.add(Math.abs(cij - cji));
+			}
+		});
+		sources = src.toArray();
+		targets = dest.toArray();
+		weights = w.toArray();
+
+		final int[] residuals = weights.clone();
+		final TIntArrayList cycleValues = new TIntArrayList();
+		final List<int[]> cycleList = new ArrayList<>();
+		final int[][] succs = getSuccessors(arcs);
+		final int[] cycle = new int[3];
+		int total = 0;
+		for (int i = 0; i < n; i++) {
+			for (int j : succs[i]) {
+				if (j < i) {
+					continue;
+				}
+				for (int k : succs[j]) {
+					if (k > i && arcs[k][i] != NONE) {
+						cycle[0] = arcs[i][j];
+						cycle[1] = arcs[j][k];
+						cycle[2] = arcs[k][i];
+						final int value = pack(cycle, residuals);
+						if (value > 0) {
+							cycleList.add(Arrays.stream(cycle).filter(p -> p >= 0).toArray());
+							cycleValues.add(value);
+							total += value;
+						}
+					}
+				}
+			}
+		}
+		cycles = cycleList.toArray(new int[cycleList.size()][]);
+		values = cycleValues.toArray();
+		packedValue = total;
+	}
+
+	private static int[][] getSuccessors(final int[][] arcs) {
+		final int n = arcs.length;
+		final int[][] succs = new int[n][];
+		for (int i = 0; i < n; i++) {
+			final TIntArrayList list = new TIntArrayList();
+			for (int j = 0; j < n; j++) {
+				if (arcs[i][j] != NONE) {
+					list.add(j);
+				}
+			}
+			succs[i] = list.toArray();
+		}
+		return succs;
+	}
+
+	private static int pack(final int[] cycle, final int[] residuals) {
+		int value = Integer.MAX_VALUE;
+		for (int p : cycle) {
+			if (p >= 0) {
+				value = Math.min(value, residuals[p]);
+			}
+		}
+		if (value == Integer.MAX_VALUE || value == 0) {
+			return 0;
+		}
+		for (int p : cycle) {
+			if (p >= 0) {
+				residuals[p] -= value;
+			}
+		}
+		return value;
+	}
+
+	public final int getPairCount() {
+		return sources.length;
+	}
+
+	/**
+	 * Return the free node (from 0) before the other in the cheap orientation of
+	 * the pair.
+	 */
+	public final int getSource(final int pair) {
+		return sources[pair];
+	}
+
+	public final int getTarget(final int pair) {
+		return targets[pair];
+	}
+
+	/**
+	 * Return the weight added to the bound when the pair is reversed.
+	 */
+	public final int getWeight(final int pair) {
+		return weights[pair];
+	}
+
+	public final int getCycleCount() {
+		return cycles.length;
+	}
+
+	/**
+	 * Return the incomparable pairs of the cycle.
+	 */
+	public final int[] getCyclePairs(final int cycle) {
+		return cycles[cycle];
+	}
+
+	/**
+	 * Return the value removed from the bound when the cycle is dropped.
+	 */
+	public final int getCycleValue(final int cycle) {
+		return values[cycle];
+	}
+
+	/**
+	 * Return the lower bound of the root packing.
+	 */
+	public final int getLowerBound() {
+		return constant + packedValue;
+	}
+
+	/**
+	 * Return the lower bound when some pairs are reversed.
+	 *
+	 * @param reversed the predicate on the incomparable pairs ordered in their
+	 *                 expensive orientation
+	 * @return the lower bound of the crossing count
+	 */
+	public int getLowerBound(final IntPredicate reversed) {
+		final BitSet rev = new BitSet(sources.length);
+		int lb = constant;
+		for (int p = 0; p < sources.length; p++) {
+			if (reversed.test(p)) {
+				rev.set(p);
+				lb += weights[p];
+			}
+		}
+		for (int c = 0; c < cycles.length; c++) {
+			if (isAlive(cycles[c], rev)) {
+				lb += values[c];
+			}
+		}
+		return lb;
+	}
+
+	private static boolean isAlive(final int[] cycle, final BitSet reversed) {
+		for (int p : cycle) {
+			if (reversed.get(p)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
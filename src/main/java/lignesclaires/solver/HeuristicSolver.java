@@ -1,7 +1,7 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
@@ -26,10 +26,10 @@ public class HeuristicSolver implements IOCSolver {
 			final BGraph gr = (BGraph) bigraph;
 
 			final Integer[] permM = gr.permutateMedians();
-			final int ccountM = solve(bigraph, permM, "Median");
+			final int ccountM = solve(bigraph, permM, "Median", config);
 
 			final Integer[] permB = gr.permutateBarycenters();
-			final int ccountB = solve(bigraph, permB, "Barycenter");
+			final int ccountB = solve(bigraph, permB, "Barycenter", config);
 
 			final int n = bigraph.getFixedCount() + 1;
 			return ccountM <= ccountB ? new OCSolution(ccountM, permM, n) : new OCSolution(ccountB, permB, n);
@@ -38,7 +38,7 @@ public class HeuristicSolver implements IOCSolver {
 		}
 	}
 
-	private int solve(IBipartiteGraph bigraph, Integer[] permutation, String name) {
+	private int solve(IBipartiteGraph bigraph, Integer[] permutation, String name, LignesClairesConfig config) {
 		int ccount = getCrossingCount(bigraph, permutation);
 		logOnSolution(name, "heuristic", ccount, permutation);
 		int delta = bigraph.getCrossingCounts().greedySwitching(permutation);
@@ -46,6 +46,11 @@ public class HeuristicSolver implements IOCSolver {
 			ccount -= delta;
 			logOnSolution(name, "greedy switching", ccount, permutation);
 		}
+		delta = WindowOptimizer.optimize(bigraph.getCrossingCounts(), permutation, config.getWindowWidth());
+		if (delta > 0) {
+			ccount -= delta;
+			logOnSolution(name, "window optimization", ccount, permutation);
+		}
 		return ccount;
 	}
 
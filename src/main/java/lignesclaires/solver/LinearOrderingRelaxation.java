@@ -0,0 +1,636 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import gnu.trove.list.array.TDoubleArrayList;
+import gnu.trove.list.array.TIntArrayList;
+import lignesclaires.graph.CrossingCounts;
+
+/**
+ * Cutting-plane lower bound given by the linear ordering relaxation.
+ *
+ * The variable x[p] in [0, 1] of an incomparable pair p is the fraction of the
+ * pair ordered in its expensive orientation, and its cost is the difference of
+ * the reduced counts. The comparable pairs are constants. The 3-cycle
+ * inequalities (a linear order reverses an arc of each directed 3-cycle) are
+ * separated in rounds by enumerating the triples.
+ *
+ * The LP is solved by a bounded dual simplex with an explicit basis inverse.
+ * The null solution is dual feasible because the costs are nonnegative, and a
+ * new cut enters the basis with its surplus variable, so the dual feasibility
+ * is kept and each round is warm started. The primal objective of a dual
+ * feasible basis is a lower bound, so the bound is valid even if a limit
+ * interrupts the simplex.
+ *
+ * The basis inverse drifts because of the rounding errors, so the bound is not
+ * the primal objective. It is the objective of the dual solution given by the
+ * clamped duals y of the basis, that is the sum of y[r] b[r] plus the sum of
+ * min(0, c[p] - y A[p]) over the pairs, which is a lower bound for any
+ * nonnegative y. It is evaluated exactly.
+ */
+public class LinearOrderingRelaxation {
+
+	private static final double EPSILON = 1e-9;
+
+	private static final double VIOLATION = 1e-4;
+
+	private static final int CUTS_PER_ROUND = 100;
+
+	private static final int MAX_ROUNDS = 100;
+
+	/**
+	 * The separation enumerates the triples of free nodes.
+	 */
+	public static final int MAX_SIZE = 1000;
+
+	// Code of a comparable pair in pairs[i][j].
+	private static final int BEFORE = -1;
+
+	private static final int AFTER = -2;
+
+	private final int n;
+
+	// The constant of the reduced counts plus the counts of the comparable pairs.
+	private final int constant;
+
+	// pairs[i][j] is the incomparable pair of i and j, BEFORE or AFTER.
+	private final int[][] pairs;
+
+	private final int[] sources;
+
+	private final double[] costs;
+
+	// The rows and coefficients of the columns of the pairs.
+	private final TIntArrayList[] colRows;
+
+	private final TIntArrayList[] colCoefs;
+
+	private final TDoubleArrayList rhs;
+
+	private final List<Cut> cuts;
+
+	private final int pairCount;
+
+	private int rowCount;
+
+	private int cutCount;
+
+	private double[][] inverse;
+
+	// heads[r] is the basic variable of the row r: a pair, or pairCount + i for the
+	// surplus of the row i.
+	private int[] heads;
+
+	// Position of a variable in the basis, or -1.
+	private int[] basisRows;
+
+	private boolean[] atUpper;
+
+	private double[] basicValues;
+
+	// The bound of the dual solution.
+	private int bound;
+
+	private long pivotCount;
+
+	private int roundCount;
+
+	public LinearOrderingRelaxation(final ReductionRules rules) {
+		super();
+		final CrossingCounts counts = rules.getBiGraph().getReducedCrossingCounts();
+		n = rules.getBiGraph().getFreeCount();
+		pairs = new int[n][n];
+		final int[] c = { counts.getConstant() };
+		rules.forEachComparableEdge((i, j) -> {
+			c[0] += counts.getCrossingCount(i, j);
+			pairs[i][j] = BEFORE;
+			pairs[j][i] = AFTER;
+		});
+		constant = c[0];
+		final TIntArrayList src = new TIntArrayList();
+		final TDoubleArrayList w = new TDoubleArrayList();
+		rules.forEachIncomparableEdge((i, j) -> {
+			final int cij = counts.getCrossingCount(i, j);
+			final int cji = counts.getCrossingCount(j, i);
+			pairs[i][j] = src.size();
+			pairs[j][i] = src.size();
+			src.add(cij <= cji ? i : j);
+			w.add(Math.abs(cij - cji));
+		});
+		sources = src.toArray();
+		costs = w.toArray();
+		pairCount = sources.length;
+		colRows = new TIntArrayList[pairCount];
+		colCoefs = new TIntArrayList[pairCount];
+		for (int p = 0; p < pairCount; p++) {
+			colRows[p] = new TIntArrayList();
+			colCoefs[p] = new TIntArrayList();
+		}
+		rhs = new TDoubleArrayList();
+		cuts = new ArrayList<>();
+	}
+
+	public final int getCutCount() {
+		return cutCount;
+	}
+
+	public final int getRowCount() {
+		return rowCount;
+	}
+
+	public final long getPivotCount() {
+		return pivotCount;
+	}
+
+	public final int getRoundCount() {
+		return roundCount;
+	}
+
+	/**
+	 * Return the lower bound of the crossing count.
+	 */
+	public final int getLowerBound() {
+		return constant + bound;
+	}
+
+	private double getValue(final int v) {
+		if (basisRows[v] >= 0) {
+			return basicValues[basisRows[v]];
+		}
+		return v < pairCount && atUpper[v] ? 1 : 0;
+	}
+
+	private double getUpperBound(final int v) {
+		return v < pairCount ? 1 : Double.POSITIVE_INFINITY;
+	}
+
+	private double getCost(final int v) {
+		return v < pairCount ? costs[v] : 0;
+	}
+
+	/**
+	 * Return the term of the cycle for the arc (i, j): x[p] if the arc is the
+	 * cheap orientation of the pair p, and 1 - x[p] otherwise.
+	 */
+	private double getTerm(final int i, final int j) {
+		final int p = pairs[i][j];
+		if (p == BEFORE) {
+			return 0;
+		} else if (p == AFTER) {
+			return 1;
+		}
+		final double x = getValue(p);
+		return sources[p] == i ? x : 1 - x;
+	}
+
+	private static final class Cut {
+
+		private final int[] nodes;
+		private final double violation;
+		// The minimum cost of the pairs breaks the ties between the violations.
+		private final double weight;
+
+		Cut(final int i, final int j, final int k, final double violation, final double weight) {
+			this.nodes = new int[] { i, j, k };
+			this.violation = violation;
+			this.weight = weight;
+		}
+	}
+
+	private static final Comparator<Cut> CUT_ORDER = Comparator.<Cut>comparingDouble(c -> c.violation)
+			.thenComparingDouble(c -> c.weight);
+
+	private double getCost(final int i, final int j) {
+		final int p = pairs[i][j];
+		return p < 0 ? Double.POSITIVE_INFINITY : costs[p];
+	}
+
+	private void separate(final PriorityQueue<Cut> queue, final int limit, final int i, final int j, final int k) {
+		final double violation = 1 - getTerm(i, j) - getTerm(j, k) - getTerm(k, i);
+		if (violation > VIOLATION) {
+			final Cut cut = new Cut(i, j, k, violation,
+					Math.min(getCost(i, j), Math.min(getCost(j, k), getCost(k, i))));
+			if (queue.size() < limit || CUT_ORDER.compare(cut, queue.peek()) > 0) {
+				queue.add(cut);
+				if (queue.size() > limit) {
+					queue.poll();
+				}
+			}
+		}
+	}
+
+	private List<Cut> separate(final int limit, final long deadline) {
+		final PriorityQueue<Cut> queue = new PriorityQueue<>(CUT_ORDER);
+		for (int i = 0; i < n; i++) {
+			for (int j = i + 1; j < n; j++) {
+				if (System.currentTimeMillis() > deadline) {
+					return new ArrayList<>(queue);
+				}
+				for (int k = j + 1; k < n; k++) {
+					separate(queue, limit, i, j, k);
+					separate(queue, limit, i, k, j);
+				}
+			}
+		}
+		return new ArrayList<>(queue);
+	}
+
+	private void addTerm(final int i, final int j, final int row, final double[] b) {
+		final int p = pairs[i][j];
+		if (p == BEFORE) {
+			return;
+		}
+		final int coef = sources[p] == i ? 1 : -1;
+		colRows[p].add(row);
+		colCoefs[p].add(coef);
+		if (coef < 0) {
+			b[0]--;
+		}
+	}
+
+	/**
+	 * Add the cut of the cycle as a row whose surplus enters the basis.
+	 */
+	private void addRow(final Cut cut, final int r) {
+		final int[] a = cut.nodes;
+		// The terms 1 - x[p] move to the right-hand side.
+		final double[] b = { 1 };
+		addTerm(a[0], a[1], r, b);
+		addTerm(a[1], a[2], r, b);
+		addTerm(a[2], a[0], r, b);
+		rhs.add(b[0]);
+	}
+
+	private void addCut(final Cut cut) {
+		final int r = rowCount;
+		cutCount++;
+		cuts.add(cut);
+		addRow(cut, r);
+		// The new row of the inverse is the row of the cut on the basic variables.
+		final double[] row = inverse[r];
+		for (int q = 0; q < r; q++) {
+			final int v = heads[q];
+			final double coef = getCoefficient(v, r);
+			if (coef != 0) {
+				for (int k = 0; k < r; k++) {
+					row[k] += coef * inverse[q][k];
+				}
+			}
+		}
+		row[r] = -1;
+		heads[r] = pairCount + r;
+		basisRows[pairCount + r] = r;
+		rowCount++;
+	}
+
+	/**
+	 * Remove the cuts whose surplus is basic and positive. Their duals are null, so
+	 * the basis stays dual feasible and the objective is unchanged.
+	 */
+	private void purge() {
+		final int[] rowIndices = new int[rowCount];
+		final boolean[] removedPositions = new boolean[rowCount];
+		int kept = 0;
+		for (int r = 0; r < rowCount; r++) {
+			final int q = basisRows[pairCount + r];
+			if (q >= 0 && basicValues[q] > VIOLATION) {
+				rowIndices[r] = -1;
+				removedPositions[q] = true;
+			} else {
+				rowIndices[r] = kept++;
+			}
+		}
+		if (kept == rowCount) {
+			return;
+		}
+		// Remove the rows of the basic surpluses and the columns of their cuts in place.
+		final double[][] newInverse = new double[inverse.length][];
+		final int[] newHeads = new int[heads.length];
+		final double[] newValues = new double[basicValues.length];
+		int q1 = 0;
+		int q2 = kept;
+		for (int q = 0; q < rowCount; q++) {
+			final double[] row = inverse[q];
+			if (removedPositions[q]) {
+				Arrays.fill(row, 0, rowCount, 0);
+				newInverse[q2++] = row;
+			} else {
+				for (int r = 0; r < rowCount; r++) {
+					if (rowIndices[r] >= 0) {
+						row[rowIndices[r]] = row[r];
+					}
+				}
+				Arrays.fill(row, kept, rowCount, 0);
+				newInverse[q1] = row;
+				final int v = heads[q];
+				newHeads[q1] = v < pairCount ? v : pairCount + rowIndices[v - pairCount];
+				newValues[q1] = basicValues[q];
+				q1++;
+			}
+		}
+		System.arraycopy(inverse, rowCount, newInverse, rowCount, inverse.length - rowCount);
+		inverse = newInverse;
+		heads = newHeads;
+		basicValues = newValues;
+		Arrays.fill(basisRows, -1);
+		for (int q = 0; q < kept; q++) {
+			basisRows[heads[q]] = q;
+		}
+		// Rebuild the rows of the kept cuts.
+		final List<Cut> keptCuts = new ArrayList<>(kept);
+		for (int r = 0; r < rowCount; r++) {
+			if (rowIndices[r] >= 0) {
+				keptCuts.add(cuts.get(r));
+			}
+		}
+		for (int p = 0; p < pairCount; p++) {
+			colRows[p].resetQuick();
+			colCoefs[p].resetQuick();
+		}
+		rhs.resetQuick();
+		cuts.clear();
+		rowCount = kept;
+		for (int r = 0; r < kept; r++) {
+			cuts.add(keptCuts.get(r));
+			addRow(keptCuts.get(r), r);
+		}
+	}
+
+	/**
+	 * Grow the basis up to the maximum number of cuts.
+	 */
+	private void ensureCapacity(final int rows, final int maxCuts) {
+		final int capacity = inverse.length;
+		if (rows <= capacity) {
+			return;
+		}
+		final int newCapacity = Math.min(maxCuts, Math.max(rows, 2 * capacity));
+		final double[][] newInverse = new double[newCapacity][];
+		for (int q = 0; q < newCapacity; q++) {
+			newInverse[q] = q < capacity ? Arrays.copyOf(inverse[q], newCapacity) : new double[newCapacity];
+		}
+		inverse = newInverse;
+		heads = Arrays.copyOf(heads, newCapacity);
+		basicValues = Arrays.copyOf(basicValues, newCapacity);
+		basisRows = Arrays.copyOf(basisRows, pairCount + newCapacity);
+		Arrays.fill(basisRows, pairCount + capacity, basisRows.length, -1);
+	}
+
+	private double getCoefficient(final int v, final int row) {
+		if (v >= pairCount) {
+			return v - pairCount == row ? -1 : 0;
+		}
+		final int idx = colRows[v].lastIndexOf(row);
+		return idx < 0 ? 0 : colCoefs[v].getQuick(idx);
+	}
+
+	private void computeBasicValues() {
+		// residual = b - N x_N, where only the pairs at their upper bound contribute.
+		final double[] residual = new double[rowCount];
+		for (int r = 0; r < rowCount; r++) {
+			residual[r] = rhs.getQuick(r);
+		}
+		for (int p = 0; p < pairCount; p++) {
+			if (basisRows[p] < 0 && atUpper[p]) {
+				for (int k = 0; k < colRows[p].size(); k++) {
+					residual[colRows[p].getQuick(k)] -= colCoefs[p].getQuick(k);
+				}
+			}
+		}
+		for (int r = 0; r < rowCount; r++) {
+			double s = 0;
+			final double[] row = inverse[r];
+			for (int k = 0; k < rowCount; k++) {
+				s += row[k] * residual[k];
+			}
+			basicValues[r] = s;
+		}
+	}
+
+	private double[] computeDuals() {
+		final double[] duals = new double[rowCount];
+		for (int r = 0; r < rowCount; r++) {
+			final double c = getCost(heads[r]);
+			if (c != 0) {
+				final double[] row = inverse[r];
+				for (int k = 0; k < rowCount; k++) {
+					duals[k] += c * row[k];
+				}
+			}
+		}
+		return duals;
+	}
+
+	private double getReducedCost(final int v, final double[] duals) {
+		if (v >= pairCount) {
+			return duals[v - pairCount];
+		}
+		double d = costs[v];
+		for (int k = 0; k < colRows[v].size(); k++) {
+			d -= duals[colRows[v].getQuick(k)] * colCoefs[v].getQuick(k);
+		}
+		return d;
+	}
+
+	private double getAlpha(final int v, final double[] rho) {
+		if (v >= pairCount) {
+			return -rho[v - pairCount];
+		}
+		double a = 0;
+		for (int k = 0; k < colRows[v].size(); k++) {
+			a += rho[colRows[v].getQuick(k)] * colCoefs[v].getQuick(k);
+		}
+		return a;
+	}
+
+	private int selectLeavingRow() {
+		int leaving = -1;
+		double max = EPSILON * 1e3;
+		for (int r = 0; r < rowCount; r++) {
+			final double x = basicValues[r];
+			final double infeasibility = Math.max(-x, x - getUpperBound(heads[r]));
+			if (infeasibility > max) {
+				max = infeasibility;
+				leaving = r;
+			}
+		}
+		return leaving;
+	}
+
+	private int selectEntering(final double[] rho, final boolean increase) {
+		final double[] duals = computeDuals();
+		int entering = -1;
+		double bestRatio = Double.POSITIVE_INFINITY;
+		double bestAlpha = 0;
+		for (int v = 0; v < pairCount + rowCount; v++) {
+			if (basisRows[v] >= 0) {
+				continue;
+			}
+			final double alpha = getAlpha(v, rho);
+			if (Math.abs(alpha) <= EPSILON) {
+				continue;
+			}
+			final boolean upper = v < pairCount && atUpper[v];
+			// The leaving variable increases if the entering one moves against alpha.
+			final boolean eligible = increase ? (upper ? alpha > 0 : alpha < 0) : (upper ? alpha < 0 : alpha > 0);
+			if (eligible) {
+				final double ratio = Math.abs(getReducedCost(v, duals)) / Math.abs(alpha);
+				if (ratio < bestRatio - EPSILON || (ratio < bestRatio + EPSILON && Math.abs(alpha) > bestAlpha)) {
+					bestRatio = ratio;
+					bestAlpha = Math.abs(alpha);
+					entering = v;
+				}
+			}
+		}
+		return entering;
+	}
+
+	private void pivot(final int r, final int entering, final boolean toUpper) {
+		final double[] column = new double[rowCount];
+		for (int q = 0; q < rowCount; q++) {
+			double s = 0;
+			if (entering >= pairCount) {
+				s = -inverse[q][entering - pairCount];
+			} else {
+				for (int k = 0; k < colRows[entering].size(); k++) {
+					s += inverse[q][colRows[entering].getQuick(k)] * colCoefs[entering].getQuick(k);
+				}
+			}
+			column[q] = s;
+		}
+		final double[] pivotRow = inverse[r];
+		final double pivotValue = column[r];
+		for (int k = 0; k < rowCount; k++) {
+			pivotRow[k] /= pivotValue;
+		}
+		for (int q = 0; q < rowCount; q++) {
+			if (q != r && column[q] != 0) {
+				final double f = column[q];
+				final double[] row = inverse[q];
+				for (int k = 0; k < rowCount; k++) {
+					row[k] -= f * pivotRow[k];
+				}
+			}
+		}
+		final int leaving = heads[r];
+		basisRows[leaving] = -1;
+		if (leaving < pairCount) {
+			atUpper[leaving] = toUpper;
+		}
+		heads[r] = entering;
+		basisRows[entering] = r;
+		if (entering < pairCount) {
+			atUpper[entering] = false;
+		}
+		pivotCount++;
+	}
+
+	/**
+	 * Update the bound given by the clamped duals of the basis. The duals are
+	 * doubles, so the sums are exact with big decimals.
+	 */
+	private void updateBound() {
+		final double[] duals = computeDuals();
+		final BigDecimal[] y = new BigDecimal[rowCount];
+		BigDecimal dual = BigDecimal.ZERO;
+		for (int r = 0; r < rowCount; r++) {
+			y[r] = duals[r] > 0 ? new BigDecimal(duals[r]) : BigDecimal.ZERO;
+			dual = dual.add(y[r].multiply(BigDecimal.valueOf(rhs.getQuick(r))));
+		}
+		for (int p = 0; p < pairCount; p++) {
+			BigDecimal reducedCost = BigDecimal.valueOf(costs[p]);
+			for (int k = 0; k < colRows[p].size(); k++) {
+				final BigDecimal coef = BigDecimal.valueOf(colCoefs[p].getQuick(k));
+				reducedCost = reducedCost.subtract(y[colRows[p].getQuick(k)].multiply(coef));
+			}
+			if (reducedCost.signum() < 0) {
+				dual = dual.add(reducedCost);
+			}
+		}
+		// The crossing counts are integers.
+		bound = Math.max(bound, dual.setScale(0, RoundingMode.CEILING).intValueExact());
+	}
+
+	/**
+	 * Apply the dual simplex until the basis is primal feasible.
+	 *
+	 * @return <code>false</code> if a limit is reached
+	 */
+	private boolean reoptimize(final long deadline) {
+		while (true) {
+			computeBasicValues();
+			final int r = selectLeavingRow();
+			if (r < 0) {
+				return true;
+			}
+			if (System.currentTimeMillis() > deadline) {
+				return false;
+			}
+			final boolean increase = basicValues[r] < 0;
+			final double[] rho = inverse[r].clone();
+			final int entering = selectEntering(rho, increase);
+			if (entering < 0) {
+				// The LP is infeasible: it does not happen if the cuts are valid.
+				return false;
+			}
+			pivot(r, entering, !increase);
+		}
+	}
+
+	/**
+	 * Solve the relaxation by rounds of separation.
+	 *
+	 * @param maxCuts    the maximum number of cuts
+	 * @param upperBound a strict upper bound of the crossing count
+	 * @param deadline   the time (in milliseconds) after which the separation
+	 *                   stops
+	 * @return the lower bound of the crossing count
+	 */
+	public int solve(final int maxCuts, final int upperBound, final long deadline) {
+		final int capacity = Math.min(maxCuts, CUTS_PER_ROUND);
+		inverse = new double[capacity][capacity];
+		heads = new int[capacity];
+		basisRows = new int[pairCount + capacity];
+		Arrays.fill(basisRows, -1);
+		atUpper = new boolean[pairCount];
+		basicValues = new double[capacity];
+		roundCount = 0;
+		bound = 0;
+		while (roundCount < MAX_ROUNDS && getLowerBound() < upperBound && System.currentTimeMillis() < deadline) {
+			purge();
+			if (rowCount == maxCuts) {
+				break;
+			}
+			final List<Cut> violated = separate(Math.min(CUTS_PER_ROUND, maxCuts - rowCount), deadline);
+			if (violated.isEmpty()) {
+				break;
+			}
+			roundCount++;
+			ensureCapacity(rowCount + violated.size(), maxCuts);
+			for (Cut cut : violated) {
+				addCut(cut);
+			}
+			final boolean optimal = reoptimize(deadline);
+			updateBound();
+			if (!optimal) {
+				break;
+			}
+		}
+		return getLowerBound();
+	}
+
+}
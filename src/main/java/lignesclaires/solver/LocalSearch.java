@@ -0,0 +1,198 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import lignesclaires.graph.CrossingCounts;
+
+/**
+ * Iterated local search on the order of the free nodes.
+ *
+ * The descent is a sifting: each node is moved to its best position until no
+ * move decreases the crossing count. An iteration perturbs the best order by a
+ * few random insertions and applies the descent. The new order is kept if it
+ * is not worse than the best one.
+ */
+public class LocalSearch {
+
+	private static final int PERTURBATION = 3;
+
+	private final CrossingCounts counts;
+
+	private final int n;
+
+	private final Random rnd;
+
+	private final int[] order;
+
+	private int cost;
+
+	private final int[] bestOrder;
+
+	private int bestCost;
+
+	// The first iteration after a reset is a descent from the new order.
+	private boolean perturbing;
+
+	/**
+	 * Build the local search.
+	 *
+	 * @param counts the crossing counts of the pairs of free nodes
+	 * @param order  the indices (from 0) of the free nodes in order
+	 * @param seed   the seed of the random generator
+	 */
+	public LocalSearch(final CrossingCounts counts, final int[] order, final long seed) {
+		super();
+		this.counts = counts;
+		this.n = order.length;
+		this.rnd = new Random(seed);
+		this.order = order.clone();
+		this.bestOrder = order.clone();
+		reset(order);
+	}
+
+	public final int getBestCost() {
+		return bestCost;
+	}
+
+	public final int[] getBestOrder() {
+		return bestOrder.clone();
+	}
+
+	private int getCost(final int[] o) {
+		int total = 0;
+		for (int p = 0; p < n; p++) {
+			for (int q = p + 1; q < n; q++) {
+				total += counts.getCrossingCount(o[p], o[q]);
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Restart the search from another order.
+	 *
+	 * @param newOrder the indices (from 0) of the free nodes in order
+	 */
+	public final void reset(final int[] newOrder) {
+		System.arraycopy(newOrder, 0, order, 0, n);
+		System.arraycopy(newOrder, 0, bestOrder, 0, n);
+		cost = getCost(order);
+		bestCost = cost;
+		perturbing = false;
+	}
+
+	private void move(final int from, final int to) {
+		final int v = order[from];
+		if (from < to) {
+			System.arraycopy(order, from + 1, order, from, to - from);
+		} else {
+			System.arraycopy(order, to, order, to + 1, from - to);
+		}
+		order[to] = v;
+	}
+
+	/**
+	 * Move the node at a position to its best position.
+	 *
+	 * @return the decrease of the crossing count
+	 */
+	private int sift(final int from) {
+		final int v = order[from];
+		int bestDelta = 0;
+		int best = from;
+		int delta = 0;
+		for (int q = from - 1; q >= 0; q--) {
+			delta += counts.getCrossingCount(v, order[q]) - counts.getCrossingCount(order[q], v);
+			if (delta < bestDelta) {
+				bestDelta = delta;
+				best = q;
+			}
+		}
+		delta = 0;
+		for (int q = from + 1; q < n; q++) {
+			delta += counts.getCrossingCount(order[q], v) - counts.getCrossingCount(v, order[q]);
+			if (delta < bestDelta) {
+				bestDelta = delta;
+				best = q;
+			}
+		}
+		if (best != from) {
+			move(from, best);
+		}
+		return -bestDelta;
+	}
+
+	/**
+	 * Apply the sifting until a local optimum is reached.
+	 */
+	private void descend() {
+		boolean improved = true;
+		while (improved) {
+			improved = false;
+			for (int v : order.clone()) {
+				final int from = indexOf(v);
+				final int gain = sift(from);
+				if (gain > 0) {
+					cost -= gain;
+					improved = true;
+				}
+			}
+		}
+	}
+
+	private int indexOf(final int v) {
+		for (int p = 0; p < n; p++) {
+			if (order[p] == v) {
+				return p;
+			}
+		}
+		return -1;
+	}
+
+	private void perturb() {
+		for (int i = 0; i < PERTURBATION; i++) {
+			move(rnd.nextInt(n), rnd.nextInt(n));
+		}
+		cost = getCost(order);
+	}
+
+	/**
+	 * Perturb the best order and apply the descent.
+	 *
+	 * @return <code>true</code> if the best order is improved
+	 */
+	public boolean iterate() {
+		if (n < 2) {
+			return false;
+		}
+		if (perturbing) {
+			perturb();
+		}
+		perturbing = true;
+		descend();
+		if (cost <= bestCost) {
+			final boolean improved = cost < bestCost;
+			System.arraycopy(order, 0, bestOrder, 0, n);
+			bestCost = cost;
+			return improved;
+		}
+		System.arraycopy(bestOrder, 0, order, 0, n);
+		cost = bestCost;
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return "LocalSearch [cost=" + bestCost + ", order=" + Arrays.toString(bestOrder) + "]";
+	}
+
+}
@@ -0,0 +1,262 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.util.logging.Level;
+
+import lignesclaires.LignesClaires;
+import lignesclaires.config.LignesClairesConfig;
+import lignesclaires.graph.CrossingCounts;
+import lignesclaires.specs.IBipartiteGraph;
+import lignesclaires.specs.IOCSolver;
+
+/**
+ * Depth-first branch-and-bound which builds the permutation from left to
+ * right on primitive arrays.
+ *
+ * The lower bound of a node is the cost of the prefix, plus the reduced
+ * crossing counts between the placed and unplaced nodes, plus the reduced
+ * crossing counts of the pairs of unplaced nodes ordered by the reduction
+ * rules. A node is placed only after its predecessors in the reduction rules,
+ * and not right after a node with which the swap decreases the crossing count
+ * (or keeps it and puts the smaller index first). The state is undone
+ * manually when backtracking.
+ */
+public class OCBranchAndBoundSolver implements IOCSolver {
+
+	private static final int CHECK_PERIOD = 1024;
+
+	private final boolean swapPruning;
+
+	private int n;
+
+	// Reduced crossing counts.
+	private int[][] c;
+
+	// succs[u] are the successors of u in the closure of the reduction rules.
+	private int[][] succs;
+
+	private boolean[][] ordered;
+
+	// Cost of the successors of each node.
+	private int[] succCosts;
+
+	private int[] predCounts;
+
+	private boolean[] placed;
+
+	// inCosts[v] is the cost of the placed nodes with v.
+	private int[] inCosts;
+
+	private int[] prefix;
+
+	private int[][] candidates;
+
+	private int prefixCost;
+
+	private int crossCost;
+
+	private int remainingCost;
+
+	private int bestCost;
+
+	private int[] bestPrefix;
+
+	private long nodeCount;
+
+	private long deadline;
+
+	private boolean stopped;
+
+	public OCBranchAndBoundSolver() {
+		this(true);
+	}
+
+	/**
+	 * @param swapPruning whether a node is not placed right after a node with
+	 *                    which the swap is better
+	 */
+	public OCBranchAndBoundSolver(final boolean swapPruning) {
+		super();
+		this.swapPruning = swapPruning;
+	}
+
+	public final long getNodeCount() {
+		return nodeCount;
+	}
+
+	private void init(final IBipartiteGraph bigraph, final LignesClairesConfig config) {
+		n = bigraph.getFreeCount();
+		final CrossingCounts counts = bigraph.getReducedCrossingCounts();
+		c = new int[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				c[i][j] = counts.getCrossingCount(i, j);
+			}
+		}
+		ordered = new boolean[n][n];
+		succCosts = new int[n];
+		predCounts = new int[n];
+		final int[] succCounts = new int[n];
+		remainingCost = 0;
+		final ReductionRules rules = new ReductionRules(bigraph, config.contains(OCModelFlag.RR1),
+				config.contains(OCModelFlag.RR2), config.contains(OCModelFlag.RR3));
+		rules.forEachComparableEdge((u, v) -> {
+			ordered[u][v] = true;
+			succCosts[u] += c[u][v];
+			succCounts[u]++;
+			predCounts[v]++;
+			remainingCost += c[u][v];
+		});
+		succs = new int[n][];
+		for (int u = 0; u < n; u++) {
+			succs[u] = new int[succCounts[u]];
+			int k = 0;
+			for (int v = 0; v < n; v++) {
+				if (ordered[u][v]) {
+					succs[u][k++] = v;
+				}
+			}
+		}
+		placed = new boolean[n];
+		inCosts = new int[n];
+		prefix = new int[n];
+		candidates = new int[n][n];
+		prefixCost = 0;
+		crossCost = 0;
+		nodeCount = 0;
+		stopped = false;
+		deadline = config.getDeadline(System.currentTimeMillis());
+	}
+
+	private void place(final int x, final int depth) {
+		prefix[depth] = x;
+		placed[x] = true;
+		prefixCost += inCosts[x];
+		crossCost -= inCosts[x];
+		remainingCost -= succCosts[x];
+		for (int w = 0; w < n; w++) {
+			if (!placed[w]) {
+				inCosts[w] += c[x][w];
+				crossCost += c[x][w];
+			}
+		}
+		for (int w : succs[x]) {
+			predCounts[w]--;
+		}
+	}
+
+	private void unplace(final int x) {
+		for (int w : succs[x]) {
+			predCounts[w]++;
+		}
+		for (int w = 0; w < n; w++) {
+			if (!placed[w]) {
+				inCosts[w] -= c[x][w];
+				crossCost -= c[x][w];
+			}
+		}
+		remainingCost += succCosts[x];
+		crossCost += inCosts[x];
+		prefixCost -= inCosts[x];
+		placed[x] = false;
+	}
+
+	/**
+	 * Check if the node must not be placed right after the last placed node,
+	 * because the swap of the two nodes is better or breaks the tie.
+	 */
+	private boolean isSwapDominated(final int last, final int x) {
+		return !ordered[last][x] && (c[last][x] > c[x][last] || (c[last][x] == c[x][last] && last > x));
+	}
+
+	/**
+	 * Check if the node can be placed at the given depth.
+	 */
+	private boolean isCandidate(final int x, final int depth) {
+		return !placed[x] && predCounts[x] == 0
+				&& (!swapPruning || depth == 0 || !isSwapDominated(prefix[depth - 1], x));
+	}
+
+	private int getCandidates(final int depth) {
+		final int[] cands = candidates[depth];
+		int size = 0;
+		for (int x = 0; x < n; x++) {
+			if (isCandidate(x, depth)) {
+				// Insertion sort by increasing cost with the placed nodes.
+				int k = size++;
+				while (k > 0 && inCosts[cands[k - 1]] > inCosts[x]) {
+					cands[k] = cands[k - 1];
+					k--;
+				}
+				cands[k] = x;
+			}
+		}
+		return size;
+	}
+
+	private void branch(final int depth) {
+		if (stopped) {
+			return;
+		}
+		if (++nodeCount % CHECK_PERIOD == 0 && System.currentTimeMillis() > deadline) {
+			stopped = true;
+			return;
+		}
+		if (depth == n) {
+			bestCost = prefixCost;
+			bestPrefix = prefix.clone();
+			return;
+		}
+		final int size = getCandidates(depth);
+		for (int k = 0; k < size; k++) {
+			final int x = candidates[depth][k];
+			place(x, depth);
+			if (prefixCost + crossCost + remainingCost < bestCost) {
+				branch(depth + 1);
+			}
+			unplace(x);
+		}
+	}
+
+	@Override
+	public OCSolution solve(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final LignesClairesConfig config) throws OCSolverException {
+		if (initialSolution.getStatus() == Status.OPTIMUM) {
+			return initialSolution;
+		}
+		init(bigraph, config);
+		final int constant = bigraph.getReducedCrossingCounts().getConstant();
+		// The cost of a solution is strictly less than the bound.
+		bestCost = initialSolution.getObjective().isPresent() ? initialSolution.getObjective().getAsInt() - constant
+				: Integer.MAX_VALUE;
+		bestPrefix = null;
+		if (remainingCost < bestCost) {
+			branch(0);
+		}
+		LignesClaires.LOGGER.log(Level.INFO, "Branch and bound:\nd BNB_NODES {0,number,#}\nd BNB_STOPPED {1}",
+				new Object[] { nodeCount, stopped });
+
+		if (bestPrefix != null) {
+			final int[] permutation = new int[n];
+			for (int k = 0; k < n; k++) {
+				permutation[k] = bigraph.getFreeNode(bestPrefix[k]);
+			}
+			return new OCSolution(stopped ? Status.SATISFIABLE : Status.OPTIMUM, constant + bestCost, permutation);
+		} else if (stopped) {
+			return initialSolution;
+		} else {
+			// No order is better than the initial solution.
+			return initialSolution.getStatus() == Status.SATISFIABLE
+					? new OCSolution(Status.OPTIMUM, initialSolution.getObjective(), initialSolution.getPermutation())
+					: new OCSolution(Status.UNSATISFIABLE);
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.util.Iterator;
+import java.util.logging.Level;
+
+import org.jgrapht.traverse.TopologicalOrderIterator;
+
+import lignesclaires.LignesClaires;
+import lignesclaires.config.LignesClairesConfig;
+import lignesclaires.graph.CrossingCounts;
+import lignesclaires.specs.IBipartiteGraph;
+import lignesclaires.specs.IOCSolver;
+
+/**
+ * Certify the optimality of the initial solution without building a model.
+ *
+ * The lower bound is the constant of the reduced crossing counts plus the
+ * reduced crossing counts of the pairs ordered by the reduction rules, and the
+ * packing of 3-cycles of the incomparable pairs (see {@link CyclePacking}). The
+ * initial solution is optimal if its objective meets the lower bound. If the
+ * reduction rules order all the pairs, the unique compatible permutation is
+ * optimal.
+ */
+public class OCCertifier implements IOCSolver {
+
+	@Override
+	public OCSolution solve(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final LignesClairesConfig config) throws OCSolverException {
+		if (initialSolution.getStatus() == Status.OPTIMUM) {
+			return initialSolution;
+		}
+		final ReductionRules rules = new ReductionRules(bigraph, config.contains(OCModelFlag.RR1),
+				config.contains(OCModelFlag.RR2), config.contains(OCModelFlag.RR3));
+		final CrossingCounts counts = bigraph.getReducedCrossingCounts();
+		final int[] lb = { counts.getConstant() };
+		final int[] comparableCount = { 0 };
+		rules.forEachComparableEdge((i, j) -> {
+			lb[0] += counts.getCrossingCount(i, j);
+			comparableCount[0]++;
+		});
+		final CyclePacking packing = new CyclePacking(rules);
+		lb[0] = Math.max(lb[0], packing.getLowerBound());
+		LignesClaires.LOGGER.log(Level.INFO, "Certification:\nd CERTIFICATE_LB {0,number,#}\nd CERTIFICATE_CYCLES {1}",
+				new Object[] { lb[0], packing.getCycleCount() });
+
+		final int n = bigraph.getFreeCount();
+		if (comparableCount[0] == n * (n - 1) / 2) {
+			LignesClaires.LOGGER.info("Certify total order [OK]");
+			final int[] permutation = new int[n];
+			final Iterator<Integer> iter = new TopologicalOrderIterator<>(rules.getOrderedGraph());
+			for (int k = 0; k < n; k++) {
+				permutation[k] = bigraph.getFreeNode(iter.next());
+			}
+			return new OCSolution(Status.OPTIMUM, lb[0], permutation);
+		}
+		if (initialSolution.getObjective().isPresent() && initialSolution.getObjective().getAsInt() <= lb[0]) {
+			LignesClaires.LOGGER.info("Certify lower bound [OK]");
+			return new OCSolution(Status.OPTIMUM, initialSolution.getObjective(), initialSolution.getPermutation());
+		}
+		return initialSolution;
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.stream.IntStream;
+
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.SearchState;
+
+import lignesclaires.LignesClaires;
+import lignesclaires.choco.ChocoLogger;
+import lignesclaires.choco.SharedBoundMonitor;
+import lignesclaires.config.LignesClairesConfig;
+import lignesclaires.specs.IBipartiteGraph;
+import lignesclaires.specs.IOCSolver;
+
+/**
+ * Concurrent local search and CP search.
+ *
+ * The CP search runs on the current thread while local searches run on the
+ * other workers. They share their incumbent: an improvement of a local search
+ * tightens the upper bound of the CP search, and a CP solution (or a solution
+ * of another local search) restarts the local searches from it. A local search
+ * that stalls waits for an improvement of the incumbent with an exponential
+ * backoff.
+ */
+public class OCConcurrentSolver implements IOCSolver {
+
+	// Number of iterations without improvement before a local search waits.
+	private static final int STALL_ITERATIONS = 100;
+
+	private static final long MAX_BACKOFF_MILLIS = 64;
+
+	private static final class LocalWorker {
+
+		private final IBipartiteGraph bigraph;
+		private final SharedIncumbent incumbent;
+		private final AtomicBoolean done;
+		private final LocalSearch search;
+
+		LocalWorker(final IBipartiteGraph bigraph, final SharedIncumbent incumbent, final AtomicBoolean done,
+				final long seed) {
+			super();
+			this.bigraph = bigraph;
+			this.incumbent = incumbent;
+			this.done = done;
+			this.search = new LocalSearch(bigraph.getCrossingCounts(), getIncumbentOrder(), seed);
+		}
+
+		private int[] getIncumbentOrder() {
+			final OCSolution sol = incumbent.getSolution();
+			final int offset = bigraph.getFreeNode(0);
+			return sol.getPermutation().isPresent()
+					? IntStream.of(sol.getPermutation().get()).map(v -> v - offset).toArray()
+					: IntStream.range(0, bigraph.getFreeCount()).toArray();
+		}
+
+		private int[] getPermutation() {
+			final int offset = bigraph.getFreeNode(0);
+			return IntStream.of(search.getBestOrder()).map(i -> i + offset).toArray();
+		}
+
+		int run() {
+			int improvements = 0;
+			int stall = 0;
+			long backoff = 1;
+			while (!done.get() && !Thread.currentThread().isInterrupted()) {
+				if (incumbent.getBound() < search.getBestCost()) {
+					search.reset(getIncumbentOrder());
+					stall = 0;
+					backoff = 1;
+				}
+				if (search.iterate() && incumbent.offer(search.getBestCost(), getPermutation())) {
+					LignesClaires.LOGGER.log(Level.FINE, "Local search:\no {0,number,#}", search.getBestCost());
+					improvements++;
+					stall = 0;
+					backoff = 1;
+				} else if (++stall >= STALL_ITERATIONS) {
+					incumbent.awaitBound(search.getBestCost(), backoff);
+					backoff = Math.min(2 * backoff, MAX_BACKOFF_MILLIS);
+				}
+			}
+			return improvements;
+		}
+	}
+
+	@Override
+	public OCSolution solve(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final LignesClairesConfig config) throws OCSolverException {
+		if (initialSolution.getStatus() == Status.OPTIMUM) {
+			return initialSolution;
+		}
+		final AbstractOCModel mod = OCSolver.build(bigraph, initialSolution, config);
+		if (config.isDryRun()) {
+			return initialSolution;
+		}
+		final Solver solver = mod.getSolver();
+		final SharedIncumbent incumbent = new SharedIncumbent(initialSolution);
+		SharedBoundMonitor.plug(solver, incumbent::getBound);
+
+		final int n = Math.max(1, config.getWorkers() - 1);
+		final AtomicBoolean done = new AtomicBoolean();
+		final List<LocalWorker> workers = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			workers.add(new LocalWorker(bigraph, incumbent, done, i));
+		}
+		final ExecutorService executor = Executors.newFixedThreadPool(n);
+		int improvements = 0;
+		try {
+			final List<Future<Integer>> futures = new ArrayList<>();
+			for (LocalWorker worker : workers) {
+				futures.add(executor.submit(worker::run));
+			}
+			final Solution sol = mod.createSolution();
+			while (solver.solve()) {
+				sol.record();
+				ChocoLogger.logOnSolution(mod, sol);
+				incumbent.offer(mod.getCrossingCountVar().getValue(), mod.recordSolution(sol));
+			}
+			done.set(true);
+			for (Future<Integer> future : futures) {
+				improvements += future.get();
+			}
+		} catch (ExecutionException e) {
+			throw new OCSolverException("Local search failed", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OCSolverException("Concurrent search interrupted", e);
+		} finally {
+			done.set(true);
+			executor.shutdownNow();
+		}
+		ChocoLogger.logOnSolver(mod);
+		// The CP search is complete under the bounds given by the local searches.
+		if (solver.getSearchState() == SearchState.TERMINATED) {
+			incumbent.close();
+		}
+		LignesClaires.LOGGER.log(Level.INFO, "Concurrent diagnostics:\nd LS_WORKERS {0}\nd LS_IMPROVEMENTS {1}",
+				new Object[] { n, improvements });
+		return incumbent.getSolution();
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.util.logging.Level;
+
+import lignesclaires.LignesClaires;
+import lignesclaires.config.LignesClairesConfig;
+import lignesclaires.graph.BGraph;
+import lignesclaires.specs.IBipartiteGraph;
+import lignesclaires.specs.IEdgeConsumer;
+
+/**
+ * Exact algorithm parameterized by the number of free nodes cut by a sweep of
+ * the fixed layer.
+ *
+ * A free node whose last neighbor is before or equal to the first neighbor of
+ * another free node is placed before it. The isolated nodes are placed first. The dynamic
+ * programming over the ideals of this interval order keeps, at each position of
+ * the sweep, the subsets of the cut free nodes placed first, so its number of
+ * states is exponential only in the cutwidth (see
+ * {@link BGraph#computeCutwidth()}). The model is solved during the remaining
+ * time when the budget of ideals is exceeded.
+ *
+ * The sweep follows the order of the fixed layer, which defines the crossing
+ * counts. The ordering given with the cutwidth in the parameterized track (see
+ * {@link BGraph#getCutwidthOrdering()}) is not used because the interval order,
+ * and so the number of ideals, does not depend on it.
+ */
+public class OCCutwidthSolver extends OCIdealDPSolver {
+
+	/**
+	 * The budget of ideals when the ideal dynamic programming of the model
+	 * solver is disabled.
+	 */
+	public static final int DEFAULT_BUDGET = 300_000;
+
+	@Override
+	protected int getBudget(final LignesClairesConfig config) {
+		return config.getIdealBudget() > 0 ? config.getIdealBudget() : DEFAULT_BUDGET;
+	}
+
+	@Override
+	protected void forEachPrecedence(final IBipartiteGraph bigraph, final LignesClairesConfig config,
+			final IEdgeConsumer consumer) {
+		final int[][] spans = ((BGraph) bigraph).getFreeSpans();
+		final int n = spans.length;
+		for (int u = 0; u < n; u++) {
+			final boolean isolated = spans[u][0] > spans[u][1];
+			for (int v = 0; v < n; v++) {
+				if (spans[v][0] > spans[v][1]) {
+					if (isolated && u < v) {
+						consumer.accept(u, v);
+					}
+				} else if (isolated || precedes(spans, u, v)) {
+					consumer.accept(u, v);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The nodes whose spans are the same vertex are ordered by index.
+	 */
+	private static boolean precedes(final int[][] spans, final int u, final int v) {
+		if (spans[u][1] < spans[v][0]) {
+			return true;
+		} else if (spans[u][1] > spans[v][0]) {
+			return false;
+		} else {
+			return spans[u][0] < spans[u][1] || spans[v][0] < spans[v][1] || u < v;
+		}
+	}
+
+	@Override
+	public OCSolution solve(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final LignesClairesConfig config) throws OCSolverException {
+		if (initialSolution.getStatus() == Status.OPTIMUM || !(bigraph instanceof BGraph)) {
+			return new OCSolver().solve(bigraph, initialSolution, config);
+		}
+		final long start = System.currentTimeMillis();
+		LignesClaires.LOGGER.log(Level.INFO, "Sweep the fixed layer:\nd CUTWIDTH {0,number,#}",
+				((BGraph) bigraph).computeCutwidth());
+		final long deadline = config.getDeadline(start);
+		final OCSolution solution = super.solve(bigraph, initialSolution, config, deadline);
+		if (solution.getStatus() == Status.OPTIMUM) {
+			return solution;
+		}
+		// The ideal dynamic programming of the model solver would fail again.
+		final LignesClairesConfig c = config.copy();
+		c.setIdealBudget(0);
+		if (config.getTimeLimit() > 0) {
+			final long elapsed = (System.currentTimeMillis() - start) / 1000;
+			c.setTimeLimit((int) Math.max(1, config.getTimeLimit() - elapsed));
+		}
+		return new OCSolver().solve(bigraph, initialSolution, c);
+	}
+
+}
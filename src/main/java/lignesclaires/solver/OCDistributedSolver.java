@@ -0,0 +1,363 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ProtocolException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DefaultEdge;
+
+import lignesclaires.LignesClaires;
+import lignesclaires.config.LignesClairesConfig;
+import lignesclaires.specs.IBipartiteGraph;
+import lignesclaires.specs.IOCSolver;
+
+/**
+ * Coordinator of a distributed embarrassingly parallel search.
+ *
+ * The coordinator decomposes the problem as the embarrassingly parallel search,
+ * listens to the workers (see {@link OCDistributedWorker}) and ships them the
+ * graph and the subproblems over TCP. The protocol is line-based:
+ * <ul>
+ * <li>coordinator: <code>graph k</code> followed by the k lines of the graph in
+ * PACE format;</li>
+ * <li>coordinator: <code>task id ub k p1 ... pk</code> where ub is the
+ * objective of the incumbent (or -1) and p the prefix of the permutation;</li>
+ * <li>coordinator: <code>bound ub</code> when the incumbent is improved;</li>
+ * <li>coordinator: <code>quit</code> at the end of the search;</li>
+ * <li>worker: <code>sol obj v1 ... vn</code> for each solution of a task;</li>
+ * <li>worker: <code>done id TERMINATED|STOPPED</code> at the end of a
+ * task.</li>
+ * </ul>
+ * The task of a worker that disconnects is given to another worker. The search
+ * stops if no worker is connected during a minute. A solution is accepted only
+ * if it is a permutation of the free nodes whose crossing count is the given
+ * objective. A worker which breaks the protocol is handled as a lost worker.
+ * The coordinator listens to the loopback address unless another address is
+ * given.
+ */
+public class OCDistributedSolver implements IOCSolver {
+
+	static final String GRAPH = "graph";
+	static final String TASK = "task";
+	static final String BOUND = "bound";
+	static final String QUIT = "quit";
+	static final String SOL = "sol";
+	static final String DONE = "done";
+	static final String TERMINATED = "TERMINATED";
+	static final String STOPPED = "STOPPED";
+
+	private static final int POLL_MILLIS = 100;
+
+	private static final long ACCEPT_TIMEOUT_MILLIS = 60_000;
+
+	private static final class Task {
+
+		private final int id;
+		private final int[] prefix;
+
+		Task(final int id, final int[] prefix) {
+			super();
+			this.id = id;
+			this.prefix = prefix;
+		}
+	}
+
+	private static final class Session {
+
+		private final IBipartiteGraph bigraph;
+		private final List<String> graphLines;
+		private final BlockingDeque<Task> queue;
+		private final AtomicInteger pending;
+		private final SharedIncumbent incumbent;
+		private final AtomicBoolean interrupted;
+		private final long deadline;
+		private final List<Connection> connections;
+		private final AtomicInteger solvedCount;
+
+		Session(final IBipartiteGraph bigraph, final List<int[]> prefixes, final OCSolution initialSolution,
+				final long deadline) {
+			super();
+			this.bigraph = bigraph;
+			this.graphLines = toPaceLines(bigraph);
+			this.queue = new LinkedBlockingDeque<>();
+			for (int i = 0; i < prefixes.size(); i++) {
+				queue.add(new Task(i, prefixes.get(i)));
+			}
+			this.pending = new AtomicInteger(prefixes.size());
+			this.incumbent = new SharedIncumbent(initialSolution);
+			this.interrupted = new AtomicBoolean();
+			this.deadline = deadline;
+			this.connections = new CopyOnWriteArrayList<>();
+			this.solvedCount = new AtomicInteger();
+			incumbent.addListener(obj -> connections.forEach(c -> c.send(BOUND + " " + obj)));
+		}
+
+		boolean isFinished() {
+			return pending.get() == 0 || interrupted.get() || System.currentTimeMillis() >= deadline;
+		}
+
+		boolean isCompleted() {
+			return pending.get() == 0 && !interrupted.get();
+		}
+	}
+
+	private static final class Connection implements Runnable {
+
+		private final Session session;
+		private final Socket socket;
+		private PrintWriter out;
+
+		Connection(final Session session, final Socket socket) {
+			super();
+			this.session = session;
+			this.socket = socket;
+		}
+
+		synchronized void send(final String line) {
+			if (out != null) {
+				out.println(line);
+			}
+		}
+
+		private void sendTask(final Task task) {
+			final StringBuilder b = new StringBuilder();
+			b.append(TASK).append(' ').append(task.id);
+			b.append(' ').append(session.incumbent.hasSolution() ? session.incumbent.getObjective() : -1);
+			b.append(' ').append(task.prefix.length);
+			for (int v : task.prefix) {
+				b.append(' ').append(v);
+			}
+			send(b.toString());
+		}
+
+		private static int parseInt(final String token) throws ProtocolException {
+			try {
+				return Integer.parseInt(token);
+			} catch (NumberFormatException e) {
+				throw new ProtocolException("Invalid integer: " + token);
+			}
+		}
+
+		/**
+		 * Parse a solution and check it against the graph.
+		 */
+		private void offerSolution(final String[] tokens) throws ProtocolException {
+			// sol obj v1 ... vn
+			final IBipartiteGraph bigraph = session.bigraph;
+			final int n = bigraph.getFreeCount();
+			if (tokens.length != n + 2) {
+				throw new ProtocolException("Invalid solution length: " + (tokens.length - 2));
+			}
+			final int objective = parseInt(tokens[1]);
+			final int offset = bigraph.getFreeNode(0);
+			final int[] permutation = new int[n];
+			final Integer[] order = new Integer[n];
+			final boolean[] seen = new boolean[n];
+			for (int i = 0; i < n; i++) {
+				permutation[i] = parseInt(tokens[i + 2]);
+				order[i] = permutation[i] - offset;
+				if (order[i] < 0 || order[i] >= n || seen[order[i]]) {
+					throw new ProtocolException("Invalid permutation of the free nodes");
+				}
+				seen[order[i]] = true;
+			}
+			if (bigraph.getCrossingCounts().getCrossingCounts(order) != objective) {
+				throw new ProtocolException("Invalid objective: " + objective);
+			}
+			session.incumbent.offer(objective, permutation);
+		}
+
+		private void await(final BufferedReader in, final Task task) throws IOException {
+			String line;
+			while ((line = in.readLine()) != null) {
+				final String[] tokens = line.split(" ");
+				if (SOL.equals(tokens[0])) {
+					offerSolution(tokens);
+				} else if (DONE.equals(tokens[0])) {
+					// done id TERMINATED|STOPPED
+					if (tokens.length != 3 || parseInt(tokens[1]) != task.id) {
+						throw new ProtocolException("Invalid end of task: " + line);
+					}
+					if (TERMINATED.equals(tokens[2])) {
+						session.pending.decrementAndGet();
+						session.solvedCount.incrementAndGet();
+					} else if (STOPPED.equals(tokens[2])) {
+						session.interrupted.set(true);
+					} else {
+						throw new ProtocolException("Invalid end of task: " + line);
+					}
+					return;
+				} else {
+					throw new ProtocolException("Invalid message: " + line);
+				}
+			}
+			throw new IOException("Connection closed by the worker");
+		}
+
+		@Override
+		public void run() {
+			Task task = null;
+			try (BufferedReader in = new BufferedReader(
+					new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+				synchronized (this) {
+					out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8),
+							true);
+				}
+				send(GRAPH + " " + session.graphLines.size());
+				session.graphLines.forEach(this::send);
+				while (!session.isFinished()) {
+					task = session.queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+					if (task != null) {
+						sendTask(task);
+						await(in, task);
+						task = null;
+					}
+				}
+				send(QUIT);
+			} catch (IOException e) {
+				if (!session.isFinished()) {
+					LignesClaires.LOGGER.log(Level.WARNING, "Lost distributed worker", e);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				if (task != null) {
+					session.queue.addFirst(task);
+				}
+				close();
+			}
+		}
+
+		void close() {
+			try {
+				socket.close();
+			} catch (IOException e) {
+				// Do nothing
+			}
+		}
+	}
+
+	/**
+	 * Write the graph in PACE format.
+	 *
+	 * @param bigraph the bipartite graph
+	 * @return the lines of the PACE input
+	 */
+	static List<String> toPaceLines(final IBipartiteGraph bigraph) {
+		final Graph<Integer, DefaultEdge> graph = bigraph.getGraph();
+		final List<String> lines = new ArrayList<>(bigraph.getEdgeCount() + 1);
+		lines.add(String.format("p ocr %d %d %d", bigraph.getFixedCount(), bigraph.getFreeCount(),
+				bigraph.getEdgeCount()));
+		for (DefaultEdge e : graph.edgeSet()) {
+			final int u = graph.getEdgeSource(e);
+			final int v = graph.getEdgeTarget(e);
+			lines.add(Math.min(u, v) + " " + Math.max(u, v));
+		}
+		return lines;
+	}
+
+	@Override
+	public OCSolution solve(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final LignesClairesConfig config) throws OCSolverException {
+		if (initialSolution.getStatus() == Status.OPTIMUM) {
+			return initialSolution;
+		}
+		final long deadline = config.getDeadline(System.currentTimeMillis());
+		final LignesClairesConfig workerConfig = OCEPSSolver.getWorkerConfig(config);
+		final List<int[]> prefixes = OCEPSSolver.decompose(bigraph, initialSolution, workerConfig,
+				Math.max(1, config.getWorkers()) * config.getSubproblemRatio());
+		if (config.isDryRun()) {
+			return initialSolution;
+		}
+
+		final Session session = new Session(bigraph, prefixes, initialSolution, deadline);
+		final List<Thread> threads = new ArrayList<>();
+		try (ServerSocket server = new ServerSocket(config.getPort(), 0, getBindAddress(config))) {
+			server.setSoTimeout(POLL_MILLIS);
+			LignesClaires.LOGGER.log(Level.INFO, "Listen to distributed workers:\nd PORT {0,number,#}",
+					server.getLocalPort());
+			long idleSince = System.currentTimeMillis();
+			while (!session.isFinished()) {
+				try {
+					final Connection connection = new Connection(session, server.accept());
+					session.connections.add(connection);
+					final Thread thread = new Thread(connection, "lignes-claires-coordinator-" + threads.size());
+					threads.add(thread);
+					thread.start();
+				} catch (SocketTimeoutException e) {
+					// Check the end of the search and the connected workers.
+					final long now = System.currentTimeMillis();
+					if (threads.stream().anyMatch(Thread::isAlive)) {
+						idleSince = now;
+					} else if (now - idleSince >= ACCEPT_TIMEOUT_MILLIS) {
+						LignesClaires.LOGGER.log(Level.WARNING, "No distributed worker connected during {0} ms.",
+								ACCEPT_TIMEOUT_MILLIS);
+						session.interrupted.set(true);
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new OCSolverException("Distributed search failed", e);
+		} finally {
+			session.connections.forEach(c -> c.send(QUIT));
+			session.connections.forEach(Connection::close);
+			joinAll(threads);
+		}
+		if (session.isCompleted()) {
+			session.incumbent.close();
+		}
+		LignesClaires.LOGGER.log(Level.INFO,
+				"Distributed diagnostics:\nd DIST_WORKERS {0}\nd EPS_SOLVED {1}\nd EPS_REMAINING {2}",
+				new Object[] { threads.size(), session.solvedCount.get(), session.pending.get() });
+		return session.incumbent.getSolution();
+	}
+
+	private static InetAddress getBindAddress(final LignesClairesConfig config) throws OCSolverException {
+		if (config.getBindAddress().isEmpty()) {
+			return InetAddress.getLoopbackAddress();
+		}
+		try {
+			return InetAddress.getByName(config.getBindAddress().get());
+		} catch (UnknownHostException e) {
+			throw new OCSolverException("Unknown bind address " + config.getBindAddress().get(), e);
+		}
+	}
+
+	private static void joinAll(final List<Thread> threads) {
+		try {
+			for (Thread thread : threads) {
+				thread.join();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
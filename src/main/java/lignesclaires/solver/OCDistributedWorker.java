@@ -0,0 +1,186 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.net.ConnectException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import org.jgrapht.nio.ImportException;
+
+import lignesclaires.LignesClaires;
+import lignesclaires.choco.SharedBoundMonitor;
+import lignesclaires.config.LignesClairesConfig;
+import lignesclaires.parser.PaceInputParser;
+import lignesclaires.specs.IBipartiteGraph;
+
+/**
+ * Worker of a distributed embarrassingly parallel search.
+ *
+ * The worker connects to a coordinator (see {@link OCDistributedSolver}),
+ * receives the graph, builds its model once, and then solves the subproblems
+ * until the coordinator quits. The model is built from the configuration of the
+ * worker which should use the same model flags as the coordinator. The bounds
+ * received by the listener thread are pulled by the solver thread.
+ */
+public final class OCDistributedWorker {
+
+	private static final int CONNECT_ATTEMPTS = 100;
+
+	private static final int CONNECT_DELAY_MILLIS = 100;
+
+	private static final String[] POISON = new String[0];
+
+	private final LignesClairesConfig config;
+
+	private final AtomicBoolean quit;
+
+	private final BlockingQueue<String[]> tasks;
+
+	// The bound received from the coordinator, pulled by the solver thread.
+	private final AtomicInteger bound;
+
+	private PrintWriter out;
+
+	private OCModel mod;
+
+	private int solvedCount;
+
+	public OCDistributedWorker(final LignesClairesConfig config) {
+		super();
+		this.config = OCEPSSolver.getWorkerConfig(config);
+		this.quit = new AtomicBoolean();
+		this.tasks = new LinkedBlockingQueue<>();
+		this.bound = new AtomicInteger(Integer.MAX_VALUE);
+	}
+
+	public final int getSolvedCount() {
+		return solvedCount;
+	}
+
+	private static Socket connect(final String host, final int port) throws IOException, InterruptedException {
+		// The coordinator may not listen yet.
+		for (int i = 1;; i++) {
+			try {
+				return new Socket(host, port);
+			} catch (ConnectException e) {
+				if (i >= CONNECT_ATTEMPTS) {
+					throw e;
+				}
+				Thread.sleep(CONNECT_DELAY_MILLIS);
+			}
+		}
+	}
+
+	private static IBipartiteGraph readGraph(final BufferedReader in) throws IOException {
+		final String header = in.readLine();
+		if (header == null || !header.startsWith(OCDistributedSolver.GRAPH)) {
+			throw new IOException("Expected graph from the coordinator: " + header);
+		}
+		final int k = Integer.parseInt(header.split(" ")[1]);
+		final StringBuilder b = new StringBuilder();
+		for (int i = 0; i < k; i++) {
+			b.append(in.readLine()).append('\n');
+		}
+		try {
+			return new PaceInputParser().parse(new StringReader(b.toString()));
+		} catch (ImportException | FileNotFoundException e) {
+			throw new IOException("Parse graph from the coordinator", e);
+		}
+	}
+
+	private void listen(final BufferedReader in) {
+		try {
+			String line;
+			while ((line = in.readLine()) != null) {
+				final String[] tokens = line.split(" ");
+				if (OCDistributedSolver.TASK.equals(tokens[0])) {
+					tasks.add(tokens);
+				} else if (OCDistributedSolver.BOUND.equals(tokens[0])) {
+					bound.accumulateAndGet(Integer.parseInt(tokens[1]), Math::min);
+				} else if (OCDistributedSolver.QUIT.equals(tokens[0])) {
+					break;
+				}
+			}
+		} catch (IOException e) {
+			LignesClaires.LOGGER.log(Level.FINE, "Lost coordinator", e);
+		} finally {
+			quit.set(true);
+			tasks.add(POISON);
+		}
+	}
+
+	private synchronized void send(final String line) {
+		out.println(line);
+	}
+
+	private void sendSolution(final int[] permutation, final int objective) {
+		final StringBuilder b = new StringBuilder();
+		b.append(OCDistributedSolver.SOL).append(' ').append(objective);
+		for (int v : permutation) {
+			b.append(' ').append(v);
+		}
+		send(b.toString());
+	}
+
+	private void solve(final String[] task) {
+		// task id ub k p1 ... pk
+		final int ub = Integer.parseInt(task[2]);
+		final int[] prefix = Arrays.stream(task, 4, task.length).mapToInt(Integer::parseInt).toArray();
+		final OptionalInt upperBound = ub < 0 ? OptionalInt.empty() : OptionalInt.of(ub);
+		final boolean completed = OCEPSSolver.solvePrefix(mod, prefix, upperBound, quit::get, this::sendSolution);
+		send(OCDistributedSolver.DONE + " " + task[1] + " "
+				+ (completed ? OCDistributedSolver.TERMINATED : OCDistributedSolver.STOPPED));
+		solvedCount++;
+	}
+
+	/**
+	 * Solve the subproblems of a coordinator until it quits.
+	 *
+	 * @param host the host of the coordinator
+	 * @param port the port of the coordinator
+	 * @throws IOException          if the communication fails
+	 * @throws InterruptedException if the worker is interrupted
+	 */
+	public void run(final String host, final int port) throws IOException, InterruptedException {
+		try (Socket socket = connect(host, port);
+				BufferedReader in = new BufferedReader(
+						new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+			out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+			final IBipartiteGraph bigraph = readGraph(in);
+			mod = OCEPSSolver.buildModel(bigraph, OCSolution.getUnknownInstance(), config);
+			SharedBoundMonitor.plug(mod.getSolver(), bound::get);
+			LignesClaires.LOGGER.log(Level.INFO, "Connect to coordinator {0}:{1,number,#} [OK]",
+					new Object[] { host, port });
+			final Thread listener = new Thread(() -> listen(in), "lignes-claires-worker-listener");
+			listener.setDaemon(true);
+			listener.start();
+			String[] task;
+			while ((task = tasks.take()) != POISON) {
+				solve(task);
+			}
+		}
+		LignesClaires.LOGGER.log(Level.INFO, "Distributed worker diagnostics:\nd EPS_SOLVED {0}", solvedCount);
+	}
+
+}
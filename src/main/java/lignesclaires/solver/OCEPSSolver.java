@@ -0,0 +1,285 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.ObjIntConsumer;
+import java.util.logging.Level;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.criteria.Criterion;
+
+import lignesclaires.LignesClaires;
+import lignesclaires.choco.ChocoLogger;
+import lignesclaires.choco.SharedBoundMonitor;
+import lignesclaires.config.LignesClairesConfig;
+import lignesclaires.graph.BGraph;
+import lignesclaires.specs.IBipartiteGraph;
+import lignesclaires.specs.IOCSolver;
+
+/**
+ * Embarrassingly parallel search.
+ *
+ * The problem is decomposed into subproblems by assigning the first slots of
+ * the permutation. The prefixes are enumerated level by level with the
+ * propagation of a dedicated model and sorted by the heuristic order of their
+ * values. The subproblems are consumed by workers with their own model, and
+ * the workers share their incumbent, whose bound is pulled by each worker on
+ * its own thread.
+ */
+public class OCEPSSolver implements IOCSolver {
+
+	private static final class Worker {
+
+		private final OCModel mod;
+		private final Queue<int[]> queue;
+		private final SharedIncumbent incumbent;
+		private final AtomicBoolean interrupted;
+		private final long deadline;
+
+		private int solvedCount;
+
+		Worker(final OCModel mod, final Queue<int[]> queue, final SharedIncumbent incumbent,
+				final AtomicBoolean interrupted, final long deadline) {
+			super();
+			this.mod = mod;
+			this.queue = queue;
+			this.incumbent = incumbent;
+			this.interrupted = interrupted;
+			this.deadline = deadline;
+			SharedBoundMonitor.plug(mod.getSolver(), incumbent::getBound);
+		}
+
+		void run() {
+			int[] prefix;
+			while (!interrupted.get() && (prefix = queue.poll()) != null) {
+				final int bound = incumbent.getBound();
+				final OptionalInt ub = bound < Integer.MAX_VALUE ? OptionalInt.of(bound) : OptionalInt.empty();
+				if (!solvePrefix(mod, prefix, ub, () -> interrupted.get() || System.currentTimeMillis() >= deadline,
+						(perm, obj) -> incumbent.offer(obj, perm))) {
+					interrupted.set(true);
+				}
+				solvedCount++;
+			}
+		}
+	}
+
+	private static Constraint[] postPrefix(final OCModel mod, final int[] prefix) {
+		final Model model = mod.getModel();
+		final IntVar[] permutation = mod.getPermutationVars();
+		final Constraint[] cstrs = new Constraint[prefix.length];
+		for (int i = 0; i < prefix.length; i++) {
+			cstrs[i] = model.arithm(permutation[i], "=", prefix[i]);
+			cstrs[i].post();
+		}
+		return cstrs;
+	}
+
+	/**
+	 * Solve the subproblem given by a prefix of the permutation. The model is
+	 * restored after the search.
+	 *
+	 * @param mod      the model
+	 * @param prefix   the first values of the permutation
+	 * @param ub       the objective of the incumbent, if any
+	 * @param stop     the stop criterion
+	 * @param consumer the consumer of the objective and permutation of the
+	 *                 solutions
+	 * @return <code>true</code> if the search space has been explored
+	 */
+	static boolean solvePrefix(final OCModel mod, final int[] prefix, final OptionalInt ub, final Criterion stop,
+			final ObjIntConsumer<int[]> consumer) {
+		final Solver solver = mod.getSolver();
+		final Constraint[] cstrs = postPrefix(mod, prefix);
+		solver.addStopCriterion(stop);
+		ub.ifPresent(solver.getObjectiveManager()::updateBestSolution);
+		final Solution sol = mod.createSolution();
+		while (solver.solve()) {
+			sol.record();
+			ChocoLogger.logOnSolution(mod, sol);
+			consumer.accept(mod.recordSolution(sol), mod.getCrossingCountVar().getValue());
+		}
+		final boolean completed = solver.getSearchState() == SearchState.TERMINATED;
+		solver.removeStopCriterion(stop);
+		solver.reset();
+		mod.getModel().unpost(cstrs);
+		return completed;
+	}
+
+	/**
+	 * Enumerate the prefixes of the permutation that are consistent by
+	 * propagation, level by level, until there are enough of them. The values are
+	 * sorted by the heuristic score of the free nodes.
+	 *
+	 * @param bigraph         the bipartite graph
+	 * @param initialSolution the initial solution
+	 * @param config          the configuration of the workers
+	 * @param target          the minimum number of prefixes
+	 * @return the consistent prefixes
+	 */
+	static List<int[]> decompose(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final LignesClairesConfig config, final int target) {
+		final BGraph gr = (BGraph) bigraph;
+		final IntToDoubleFunction score = config.contains(OCSearchFlag.MEDIAN) ? gr.getFreeMedians()
+				: gr.getFreeBarycenters();
+		final List<int[]> prefixes = decompose(buildModel(bigraph, initialSolution, config), score, target);
+		LignesClaires.LOGGER.log(Level.INFO, "Decompose OCM:\nd EPS_DEPTH {0}\nd EPS_SUBPROBLEMS {1}",
+				new Object[] { prefixes.isEmpty() ? 0 : prefixes.get(0).length, prefixes.size() });
+		return prefixes;
+	}
+
+	private static List<int[]> decompose(final OCModel mod, final IntToDoubleFunction score, final int target) {
+		final IntVar[] permutation = mod.getPermutationVars();
+		List<int[]> prefixes = new ArrayList<>();
+		prefixes.add(new int[0]);
+		int depth = 0;
+		while (depth < permutation.length && prefixes.size() < target) {
+			final List<int[]> next = new ArrayList<>();
+			for (int[] prefix : prefixes) {
+				expand(mod, prefix, score, next);
+			}
+			prefixes = next;
+			depth++;
+			if (prefixes.isEmpty()) {
+				break;
+			}
+		}
+		return prefixes;
+	}
+
+	private static void instantiate(final IntVar[] permutation, final int[] prefix) throws ContradictionException {
+		for (int i = 0; i < prefix.length; i++) {
+			permutation[i].instantiateTo(prefix[i], Cause.Null);
+		}
+	}
+
+	private static void expand(final OCModel mod, final int[] prefix, final IntToDoubleFunction score,
+			final List<int[]> next) {
+		final Solver solver = mod.getSolver();
+		final IEnvironment env = mod.getModel().getEnvironment();
+		final IntVar[] permutation = mod.getPermutationVars();
+		final IntVar slot = permutation[prefix.length];
+		env.worldPush();
+		try {
+			instantiate(permutation, prefix);
+			solver.propagate();
+			final int[] values = slot.stream().boxed()
+					.sorted((a, b) -> Double.compare(score.applyAsDouble(a), score.applyAsDouble(b)))
+					.mapToInt(Integer::intValue).toArray();
+			for (int v : values) {
+				env.worldPush();
+				try {
+					slot.instantiateTo(v, Cause.Null);
+					solver.propagate();
+					final int[] child = Arrays.copyOf(prefix, prefix.length + 1);
+					child[prefix.length] = v;
+					next.add(child);
+				} catch (ContradictionException e) {
+					solver.getEngine().flush();
+				} finally {
+					env.worldPop();
+				}
+			}
+		} catch (ContradictionException e) {
+			solver.getEngine().flush();
+		} finally {
+			env.worldPop();
+		}
+	}
+
+	static LignesClairesConfig getWorkerConfig(final LignesClairesConfig config) {
+		final LignesClairesConfig c = config.copy();
+		// The decomposition needs the permutation variables.
+		final EnumSet<OCModelFlag> modelMask = c.getModelMask();
+		modelMask.remove(OCModelFlag.LO);
+		c.setModelMask(modelMask);
+		// The nogoods and clauses learned in a subproblem are not valid in the others.
+		final EnumSet<OCSearchFlag> searchMask = c.getSearchMask();
+		searchMask.remove(OCSearchFlag.RESTARTS);
+		searchMask.remove(OCSearchFlag.LEARNING);
+		c.setSearchMask(searchMask);
+		return c;
+	}
+
+	static OCModel buildModel(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final LignesClairesConfig config) {
+		final OCModel mod = new OCModel(bigraph, config);
+		OCSolver.configure(mod, initialSolution, config);
+		return mod;
+	}
+
+	@Override
+	public OCSolution solve(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final LignesClairesConfig config) throws OCSolverException {
+		if (initialSolution.getStatus() == Status.OPTIMUM) {
+			return initialSolution;
+		}
+		final long deadline = config.getDeadline(System.currentTimeMillis());
+		final LignesClairesConfig workerConfig = getWorkerConfig(config);
+		final int n = Math.max(1, config.getWorkers());
+		final List<int[]> prefixes = decompose(bigraph, initialSolution, workerConfig, n * config.getSubproblemRatio());
+
+		final List<Worker> workers = new ArrayList<>(n);
+		final Queue<int[]> queue = new ConcurrentLinkedQueue<>(prefixes);
+		final SharedIncumbent incumbent = new SharedIncumbent(initialSolution);
+		final AtomicBoolean interrupted = new AtomicBoolean();
+		for (int i = 0; i < n; i++) {
+			workers.add(new Worker(buildModel(bigraph, initialSolution, workerConfig), queue, incumbent,
+					interrupted, deadline));
+		}
+		if (config.isDryRun()) {
+			return initialSolution;
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(n);
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for (Worker worker : workers) {
+				futures.add(executor.submit(worker::run));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (ExecutionException e) {
+			throw new OCSolverException("EPS worker failed", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OCSolverException("EPS interrupted", e);
+		} finally {
+			executor.shutdownNow();
+		}
+		if (!interrupted.get() && queue.isEmpty()) {
+			incumbent.close();
+		}
+		LignesClaires.LOGGER.log(Level.INFO, "EPS diagnostics:\nd EPS_SOLVED {0}\nd EPS_REMAINING {1}",
+				new Object[] { workers.stream().mapToInt(w -> w.solvedCount).sum(), queue.size() });
+		return incumbent.getSolution();
+	}
+
+}
@@ -0,0 +1,242 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.stream.IntStream;
+
+import lignesclaires.LignesClaires;
+import lignesclaires.config.LignesClairesConfig;
+import lignesclaires.graph.CrossingCounts;
+import lignesclaires.specs.IBipartiteGraph;
+import lignesclaires.specs.IEdgeConsumer;
+import lignesclaires.specs.IOCSolver;
+
+/**
+ * Exact dynamic programming over the ideals of the poset of the reduction
+ * rules.
+ *
+ * An ideal is a set of free nodes placed first which is closed by the
+ * predecessors of the ordered graph. The ideals of size k+1 are built from the
+ * ideals of size k by appending an available node. The cost of appending a
+ * node v after an ideal is the reduced crossing counts of its predecessors,
+ * which is constant, plus the reduced crossing counts c(u, v) of the nodes u of
+ * the ideal incomparable with v. The nodes out of an ideal are placed after its
+ * nodes, so the crossing counts c(u, v) of the nodes u in the ideal and v out
+ * of it give a lower bound of the cost of its completions. The states whose
+ * lower bound reaches the objective of the initial solution are pruned.
+ *
+ * The solver gives up and returns the initial solution when the number of
+ * ideals exceeds the budget, or when the time limit is reached.
+ */
+public class OCIdealDPSolver implements IOCSolver {
+
+	private static final class Ideal {
+
+		private final long[] words;
+
+		private final int hash;
+
+		Ideal(final long[] words) {
+			super();
+			this.words = words;
+			this.hash = Arrays.hashCode(words);
+		}
+
+		boolean contains(final int v) {
+			return OCIdealDPSolver.contains(words, v);
+		}
+
+		boolean containsAll(final long[] set) {
+			for (int w = 0; w < words.length; w++) {
+				if ((set[w] & ~words[w]) != 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		Ideal add(final int v) {
+			final long[] next = words.clone();
+			next[v >>> 6] |= 1L << v;
+			return new Ideal(next);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Ideal && Arrays.equals(words, ((Ideal) obj).words);
+		}
+	}
+
+	private static final class State {
+
+		private final State parent;
+
+		private final int last;
+
+		private final int cost;
+
+		// Sum of c(u, v) for u in the ideal and v out of it.
+		private final int outCost;
+
+		State(final State parent, final int last, final int cost, final int outCost) {
+			super();
+			this.parent = parent;
+			this.last = last;
+			this.cost = cost;
+			this.outCost = outCost;
+		}
+	}
+
+	private int idealCount;
+
+	public final int getIdealCount() {
+		return idealCount;
+	}
+
+	/**
+	 * Consume the pairs (u, v) of free nodes such that u is placed before v. The
+	 * pairs are closed by transitivity.
+	 */
+	protected void forEachPrecedence(final IBipartiteGraph bigraph, final LignesClairesConfig config,
+			final IEdgeConsumer consumer) {
+		final ReductionRules rules = new ReductionRules(bigraph, config.contains(OCModelFlag.RR1),
+				config.contains(OCModelFlag.RR2), config.contains(OCModelFlag.RR3));
+		rules.forEachComparableEdge(consumer);
+	}
+
+	/**
+	 * Get the maximum number of ideals.
+	 */
+	protected int getBudget(final LignesClairesConfig config) {
+		return config.getIdealBudget();
+	}
+
+	private static boolean contains(final long[] set, final int v) {
+		return (set[v >>> 6] & (1L << v)) != 0;
+	}
+
+	@Override
+	public OCSolution solve(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final LignesClairesConfig config) throws OCSolverException {
+		final long deadline = config.getDeadline(System.currentTimeMillis());
+		return solve(bigraph, initialSolution, config, deadline);
+	}
+
+	/**
+	 * Solve the problem before the deadline.
+	 *
+	 * @param deadline the deadline in milliseconds
+	 */
+	public OCSolution solve(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final LignesClairesConfig config, final long deadline) {
+		if (initialSolution.getStatus() == Status.OPTIMUM) {
+			return initialSolution;
+		}
+		final int n = bigraph.getFreeCount();
+		final int words = (n + 63) >>> 6;
+		final CrossingCounts counts = bigraph.getReducedCrossingCounts();
+
+		// The predecessors are placed before the node.
+		final long[][] preds = new long[n][words];
+		final int[] fixedCosts = new int[n];
+		final int[] fixedOutCosts = new int[n];
+		forEachPrecedence(bigraph, config, (u, v) -> {
+			preds[v][u >>> 6] |= 1L << u;
+			fixedCosts[v] += counts.getCrossingCount(u, v);
+			fixedOutCosts[v] += counts.getCrossingCount(v, u);
+		});
+		final int[] rowCosts = new int[n];
+		for (int v = 0; v < n; v++) {
+			for (int w = 0; w < n; w++) {
+				rowCosts[v] += counts.getCrossingCount(v, w);
+			}
+		}
+		final int[][] incomparables = new int[n][];
+		for (int v = 0; v < n; v++) {
+			final int w = v;
+			incomparables[v] = IntStream.range(0, n)
+					.filter(u -> u != w && !contains(preds[w], u) && !contains(preds[u], w)).toArray();
+		}
+
+		// The cost of a state is strictly less than the bound.
+		final int bound = initialSolution.getObjective().isPresent()
+				? initialSolution.getObjective().getAsInt() - counts.getConstant()
+				: Integer.MAX_VALUE;
+		Map<Ideal, State> layer = new HashMap<>();
+		if (bound > 0) {
+			layer.put(new Ideal(new long[words]), new State(null, -1, 0, 0));
+		}
+		idealCount = layer.size();
+		final int budget = getBudget(config);
+		for (int k = 0; k < n && !layer.isEmpty(); k++) {
+			final Map<Ideal, State> next = new HashMap<>();
+			for (Map.Entry<Ideal, State> entry : layer.entrySet()) {
+				if (System.currentTimeMillis() >= deadline) {
+					LignesClaires.LOGGER.log(Level.INFO, "Ideal dynamic programming time limit [FAIL]");
+					return initialSolution;
+				}
+				final Ideal ideal = entry.getKey();
+				final State state = entry.getValue();
+				for (int v = 0; v < n; v++) {
+					if (!ideal.contains(v) && ideal.containsAll(preds[v])) {
+						int inCost = fixedCosts[v];
+						int outCost = rowCosts[v] - fixedOutCosts[v];
+						for (int u : incomparables[v]) {
+							if (ideal.contains(u)) {
+								inCost += counts.getCrossingCount(u, v);
+								outCost -= counts.getCrossingCount(v, u);
+							}
+						}
+						final int cost = state.cost + inCost;
+						outCost += state.outCost - inCost;
+						if (cost + outCost < bound) {
+							final Ideal nextIdeal = ideal.add(v);
+							final State nextState = next.get(nextIdeal);
+							if (nextState == null) {
+								next.put(nextIdeal, new State(state, v, cost, outCost));
+								if (++idealCount > budget) {
+									LignesClaires.LOGGER.log(Level.INFO, "Ideal dynamic programming [FAIL]");
+									return initialSolution;
+								}
+							} else if (cost < nextState.cost) {
+								next.put(nextIdeal, new State(state, v, cost, outCost));
+							}
+						}
+					}
+				}
+			}
+			layer = next;
+		}
+		LignesClaires.LOGGER.log(Level.INFO, "Ideal dynamic programming:\nd DP_IDEALS {0,number,#}", idealCount);
+		if (layer.isEmpty()) {
+			// No order is better than the initial solution.
+			return initialSolution.getStatus() == Status.SATISFIABLE
+					? new OCSolution(Status.OPTIMUM, initialSolution.getObjective(), initialSolution.getPermutation())
+					: new OCSolution(Status.UNSATISFIABLE);
+		}
+		State state = layer.values().iterator().next();
+		final int objective = counts.getConstant() + state.cost;
+		final int[] permutation = new int[n];
+		for (int k = n - 1; k >= 0; k--) {
+			permutation[k] = bigraph.getFreeNode(state.last);
+			state = state.parent;
+		}
+		return new OCSolution(Status.OPTIMUM, objective, permutation);
+	}
+
+}
@@ -0,0 +1,261 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+
+import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
+import org.jgrapht.alg.TransitiveClosure;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DirectedAcyclicGraph;
+
+import lignesclaires.LignesClaires;
+import lignesclaires.config.LignesClairesConfig;
+import lignesclaires.graph.BGraph;
+import lignesclaires.graph.CrossingCounts;
+import lignesclaires.graph.JGraphtUtil;
+import lignesclaires.specs.IBipartiteGraph;
+import lignesclaires.specs.IOCSolver;
+
+/**
+ * Kernelization parameterized by the objective of the initial solution.
+ *
+ * The pairs ordered by the reduction rules give a lower bound (see
+ * {@link OCCertifier}). An incomparable pair is oriented if its other
+ * orientation raises the lower bound to the upper bound k. A free node
+ * comparable to all the others has a forced position: it splits the other free
+ * nodes into blocks whose relative order is fixed. Each block is solved
+ * independently by the delegate solver, and the solutions of the blocks are
+ * lifted back around the forced nodes. The time remaining is shared among the
+ * blocks. If no position is forced, the orientations are left to the probing of
+ * the model (see {@link PairProbing}).
+ */
+public class OCKernelSolver implements IOCSolver {
+
+	private final IOCSolver delegate;
+
+	private int forcedCount;
+
+	public OCKernelSolver(final IOCSolver delegate) {
+		super();
+		this.delegate = delegate;
+	}
+
+	public final int getForcedCount() {
+		return forcedCount;
+	}
+
+	private static DirectedAcyclicGraph<Integer, DefaultEdge> buildOrder(final IBipartiteGraph bigraph,
+			final int upperBound, final LignesClairesConfig config) {
+		final ReductionRules rules = new ReductionRules(bigraph, config.contains(OCModelFlag.RR1),
+				config.contains(OCModelFlag.RR2), config.contains(OCModelFlag.RR3));
+		final CrossingCounts counts = bigraph.getReducedCrossingCounts();
+		final DirectedAcyclicGraph<Integer, DefaultEdge> order = JGraphtUtil.directedAcyclic();
+		JGraphtUtil.addVertices(order, bigraph.getFreeCount());
+		final int[] lb = { counts.getConstant() };
+		rules.forEachComparableEdge((i, j) -> {
+			lb[0] += counts.getCrossingCount(i, j);
+			order.addEdge(i, j);
+		});
+		// An improving solution does not order i before j if it raises the bound to k.
+		final List<int[]> oriented = new ArrayList<>();
+		rules.forEachIncomparableEdge((i, j) -> {
+			if (lb[0] + counts.getCrossingCount(i, j) >= upperBound) {
+				oriented.add(new int[] { j, i });
+			} else if (lb[0] + counts.getCrossingCount(j, i) >= upperBound) {
+				oriented.add(new int[] { i, j });
+			}
+		});
+		for (int[] edge : oriented) {
+			// Throw an IllegalArgumentException if there is no improving solution.
+			order.addEdge(edge[0], edge[1]);
+		}
+		if (!oriented.isEmpty()) {
+			TransitiveClosure.INSTANCE.closeDirectedAcyclicGraph(order);
+		}
+		LignesClaires.LOGGER.log(Level.CONFIG, "Kernel orientations:\nd KERNEL_ORIENTED {0}", oriented.size());
+		return order;
+	}
+
+	private static IBipartiteGraph buildBlockGraph(final IBipartiteGraph bigraph, final List<Integer> block) {
+		final Graph<Integer, DefaultEdge> graph = JGraphtUtil.unweightedUndirected();
+		final int fixedCount = bigraph.getFixedCount();
+		JGraphtUtil.addVertices(graph, 1, fixedCount + block.size() + 1);
+		final Graph<Integer, DefaultEdge> g = bigraph.getGraph();
+		for (int k = 0; k < block.size(); k++) {
+			final int node = bigraph.getFreeNode(block.get(k));
+			for (DefaultEdge e : g.edgesOf(node)) {
+				graph.addEdge(Graphs.getOppositeVertex(g, e, node), fixedCount + 1 + k);
+			}
+		}
+		return new BGraph(graph, fixedCount, block.size());
+	}
+
+	private static List<Integer> getInitialOrder(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final List<Integer> block) {
+		final int offset = bigraph.getFreeNode(0);
+		final boolean[] inBlock = new boolean[bigraph.getFreeCount()];
+		block.forEach(i -> inBlock[i] = true);
+		final List<Integer> order = new ArrayList<>(block.size());
+		for (int v : initialSolution.getPermutation().get()) {
+			if (inBlock[v - offset]) {
+				order.add(v - offset);
+			}
+		}
+		return order;
+	}
+
+	/**
+	 * Solve a block, or keep its initial order if there is no configuration left
+	 * for it.
+	 */
+	private OCSolution solveBlock(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final List<Integer> block, final Optional<LignesClairesConfig> optConfig) throws OCSolverException {
+		final List<Integer> initialOrder = getInitialOrder(bigraph, initialSolution, block);
+		if (block.size() < 2 || optConfig.isEmpty()) {
+			return new OCSolution(block.size() < 2 ? Status.OPTIMUM : Status.SATISFIABLE, 0,
+					initialOrder.stream().mapToInt(i -> i).toArray());
+		}
+		final LignesClairesConfig config = optConfig.get();
+		final IBipartiteGraph blockGraph = buildBlockGraph(bigraph, initialOrder);
+		final Integer[] identity = new Integer[initialOrder.size()];
+		for (int k = 0; k < identity.length; k++) {
+			identity[k] = k;
+		}
+		final OCSolution blockInitial = new OCSolution(blockGraph.getCrossingCounts().getCrossingCounts(identity),
+				identity, blockGraph.getFreeNode(0));
+		final OCSolution sol = delegate.solve(blockGraph, blockInitial, config);
+		final OCSolution blockSol = sol.getPermutation().isPresent() ? sol : blockInitial;
+		final int offset = blockGraph.getFreeNode(0);
+		final int[] order = new int[initialOrder.size()];
+		final int[] permutation = blockSol.getPermutation().get();
+		for (int k = 0; k < order.length; k++) {
+			order[k] = initialOrder.get(permutation[k] - offset);
+		}
+		return new OCSolution(sol.getStatus() == Status.OPTIMUM ? Status.OPTIMUM : Status.SATISFIABLE,
+				blockSol.getObjective(), Optional.of(order));
+	}
+
+	/**
+	 * Share the time remaining before the deadline among the blocks left to
+	 * solve, so that the time unused by a block is given to the next ones.
+	 *
+	 * @return the configuration of the next block, or nothing if less than a
+	 *         second remains
+	 */
+	private static Optional<LignesClairesConfig> getBlockConfig(final LignesClairesConfig config,
+			final long deadline, final int blockCount) {
+		final LignesClairesConfig c = config.copy();
+		if (config.getTimeLimit() > 0) {
+			final long remaining = deadline - System.currentTimeMillis();
+			if (remaining < 1000) {
+				return Optional.empty();
+			}
+			c.setTimeLimit((int) Math.max(1, remaining / blockCount / 1000));
+		}
+		return Optional.of(c);
+	}
+
+	@Override
+	public OCSolution solve(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final LignesClairesConfig config) throws OCSolverException {
+		if (initialSolution.getStatus() == Status.OPTIMUM || initialSolution.getObjective().isEmpty()
+				|| config.isDryRun()) {
+			return delegate.solve(bigraph, initialSolution, config);
+		}
+		final long start = System.currentTimeMillis();
+		final int upperBound = initialSolution.getObjective().getAsInt();
+		final DirectedAcyclicGraph<Integer, DefaultEdge> order;
+		try {
+			order = buildOrder(bigraph, upperBound, config);
+		} catch (IllegalArgumentException e) {
+			LignesClaires.LOGGER.info("Kernel orientations are cyclic: the initial solution is optimal.");
+			return new OCSolution(Status.OPTIMUM, initialSolution.getObjective(), initialSolution.getPermutation());
+		}
+
+		// rank[i] is the number of forced nodes before the node i.
+		final int n = bigraph.getFreeCount();
+		final boolean[] forced = new boolean[n];
+		forcedCount = 0;
+		for (int i = 0; i < n; i++) {
+			forced[i] = order.degreeOf(i) == n - 1;
+			if (forced[i]) {
+				forcedCount++;
+			}
+		}
+		LignesClaires.LOGGER.log(Level.INFO, "Kernelization:\nd KERNEL_FORCED {0}", forcedCount);
+		if (forcedCount == 0) {
+			// The probing of the model orients at least the same pairs, and adds
+			// them to its reduction rules.
+			final LignesClairesConfig c = config.copy();
+			c.setProbing(true);
+			return delegate.solve(bigraph, initialSolution, c);
+		}
+		final int[] rank = new int[n];
+		final int[] forcedNodes = new int[forcedCount];
+		final List<List<Integer>> blocks = new ArrayList<>(forcedCount + 1);
+		for (int b = 0; b <= forcedCount; b++) {
+			blocks.add(new ArrayList<>());
+		}
+		for (int i = 0; i < n; i++) {
+			for (DefaultEdge e : order.incomingEdgesOf(i)) {
+				if (forced[order.getEdgeSource(e)]) {
+					rank[i]++;
+				}
+			}
+			if (forced[i]) {
+				forcedNodes[rank[i]] = i;
+			} else {
+				blocks.get(rank[i]).add(i);
+			}
+		}
+
+		final long deadline = config.getDeadline(start);
+		int blockCount = (int) blocks.stream().filter(block -> block.size() > 1).count();
+		Status status = Status.OPTIMUM;
+		final Integer[] lifted = new Integer[n];
+		int k = 0;
+		for (int b = 0; b <= forcedCount; b++) {
+			final List<Integer> block = blocks.get(b);
+			final OCSolution blockSol = solveBlock(bigraph, initialSolution, block,
+					block.size() > 1 ? getBlockConfig(config, deadline, blockCount--) : Optional.empty());
+			if (blockSol.getStatus() != Status.OPTIMUM) {
+				status = Status.SATISFIABLE;
+			}
+			for (int i : blockSol.getPermutation().get()) {
+				lifted[k++] = i;
+			}
+			if (b < forcedCount) {
+				lifted[k++] = forcedNodes[b];
+			}
+		}
+		final int objective = bigraph.getCrossingCounts().getCrossingCounts(lifted);
+		LignesClaires.LOGGER.log(Level.INFO, "Kernel lifting:\nd KERNEL_BLOCKS {0}\no {1,number,#}",
+				new Object[] { forcedCount + 1, objective });
+		if (objective >= upperBound) {
+			// No improving solution: the initial solution is optimal if the blocks are.
+			return new OCSolution(status, initialSolution.getObjective(), initialSolution.getPermutation());
+		}
+		return new OCSolution(status, objective, toNodes(bigraph, lifted));
+	}
+
+	private static int[] toNodes(final IBipartiteGraph bigraph, final Integer[] indices) {
+		final int offset = bigraph.getFreeNode(0);
+		final int[] permutation = new int[indices.length];
+		for (int k = 0; k < indices.length; k++) {
+			permutation[k] = indices[k] + offset;
+		}
+		return permutation;
+	}
+
+}
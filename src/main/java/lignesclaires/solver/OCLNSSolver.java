@@ -0,0 +1,74 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.util.logging.Level;
+
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.variables.IntVar;
+
+import lignesclaires.LignesClaires;
+import lignesclaires.choco.PermutationNeighbor;
+import lignesclaires.config.LignesClairesConfig;
+import lignesclaires.graph.BGraph;
+import lignesclaires.specs.IBipartiteGraph;
+import lignesclaires.specs.IOCSolver;
+
+/**
+ * Large neighborhood search.
+ *
+ * The search starts from the initial solution and repeatedly relaxes a fragment
+ * of the incumbent permutation (see {@link PermutationNeighbor}), which is
+ * solved by the CP model under a fail limit. The solution is optimal only if
+ * the fragments grow until the whole permutation is relaxed.
+ */
+public class OCLNSSolver implements IOCSolver {
+
+	private static final long SEED = 0;
+
+	private static Solution bootstrap(final OCModel mod, final OCSolution initialSolution) {
+		if (initialSolution.getPermutation().isEmpty()) {
+			return null;
+		}
+		final int[] order = mod.toFreeIndices(initialSolution.getPermutation().get());
+		final IntVar[] permutation = mod.getPermutationVars();
+		final Solution sol = new Solution(mod.getModel(), permutation);
+		for (int i = 0; i < order.length; i++) {
+			sol.setIntVal(permutation[i], order[i]);
+		}
+		return sol;
+	}
+
+	@Override
+	public OCSolution solve(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final LignesClairesConfig config) throws OCSolverException {
+		if (initialSolution.getStatus() == Status.OPTIMUM) {
+			return initialSolution;
+		}
+		// The neighborhoods need the permutation variables, and the restarts are
+		// driven by the fragments.
+		final LignesClairesConfig lnsConfig = OCEPSSolver.getWorkerConfig(config);
+		final OCModel mod = new OCModel(bigraph, lnsConfig);
+		OCSolver.configure(mod, initialSolution, lnsConfig);
+		OCSolver.limit(mod, lnsConfig);
+		final PermutationNeighbor neighbor = new PermutationNeighbor(mod.getPermutationVars(),
+				((BGraph) bigraph).getFreeSpans(), SEED);
+		mod.getSolver().setLNS(neighbor, new FailCounter(mod.getModel(), config.getNeighborFailLimit()),
+				bootstrap(mod, initialSolution));
+		if (config.isDryRun()) {
+			return initialSolution;
+		}
+		final OCSolution solution = OCSolver.solveModel(mod, initialSolution);
+		LignesClaires.LOGGER.log(Level.INFO, "LNS diagnostics:\nd LNS_MOVES {0}\nd LNS_SUCCESSES {1}\nd LNS_SIZE {2}",
+				new Object[] { neighbor.getMoveCount(), neighbor.getSuccessCount(), neighbor.getSize() });
+		return solution;
+	}
+
+}
@@ -0,0 +1,189 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import static lignesclaires.solver.OCModelFlag.LB;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.IntToDoubleFunction;
+import java.util.logging.Level;
+
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.variables.InputOrder;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TIntIntHashMap;
+import lignesclaires.LignesClaires;
+import lignesclaires.choco.PropLinearOrdering;
+import lignesclaires.config.LignesClairesConfig;
+import lignesclaires.graph.BGraph;
+import lignesclaires.graph.CrossingCounts;
+import lignesclaires.specs.IBipartiteGraph;
+
+/**
+ * Linear ordering model with a Boolean variable by incomparable pair.
+ *
+ * The variable of a pair is true if and only if its source is before its
+ * target, and the source is chosen such that its coefficient in the weighted
+ * sum of the objective is the non-negative reduced crossing count. There are
+ * no position variables.
+ */
+public class OCLinearOrderingModel extends AbstractOCModel {
+
+	private static final String BEFORE_NAME = "before";
+
+	private final int n;
+
+	// ranks[i] is the number of predecessors of i by the reduction rules.
+	private final int[] ranks;
+
+	private int[] sources;
+	private int[] targets;
+	private BoolVar[] before;
+
+	public OCLinearOrderingModel(final IBipartiteGraph bigraph, final LignesClairesConfig config) {
+		super(bigraph, config);
+		n = bigraph.getFreeCount();
+		ranks = new int[n];
+		sources = new int[0];
+		targets = new int[0];
+		before = new BoolVar[0];
+	}
+
+	public final BoolVar[] getBeforeVars() {
+		return before;
+	}
+
+	@Override
+	public void buildModel() {
+		final CrossingCounts counts = bigraph.getReducedCrossingCounts();
+		final ReductionRules rules = buildReductionRules();
+		config.report(rules::exportGraph);
+
+		final int[] constant = { counts.getConstant() };
+		rules.forEachComparableEdge((i, j) -> {
+			ranks[j]++;
+			constant[0] += counts.getCrossingCount(i, j);
+		});
+
+		final TIntArrayList src = new TIntArrayList();
+		final TIntArrayList dest = new TIntArrayList();
+		rules.forEachIncomparableEdge((i, j) -> {
+			if (counts.getCrossingCount(i, j) >= counts.getCrossingCount(j, i)) {
+				src.add(i);
+				dest.add(j);
+			} else {
+				src.add(j);
+				dest.add(i);
+			}
+		});
+		sources = src.toArray();
+		targets = dest.toArray();
+		final int m = sources.length;
+		before = new BoolVar[m];
+		for (int e = 0; e < m; e++) {
+			// Share the name to avoid building a string by variable.
+			before[e] = model.boolVar(BEFORE_NAME);
+		}
+		LignesClaires.LOGGER.log(Level.INFO, "Reduction rules:\nd ORDERED {0,number,#}\nd INCPOMPARABLE {1,number,#}",
+				new Object[] { rules.getOrderedGraph().edgeSet().size(), m });
+
+		if (m > 0) {
+			model.post(new Constraint("LinearOrdering", new PropLinearOrdering(n, sources, targets, ranks, before)));
+		}
+		postObjective(counts, constant[0]);
+		if (config.contains(LB)) {
+			postLowerBound();
+		}
+	}
+
+	private void postObjective(final CrossingCounts counts, final int constant) {
+		final IntVar[] vars = new IntVar[before.length + 1];
+		final int[] coeffs = new int[before.length + 1];
+		int k = 0;
+		for (int e = 0; e < before.length; e++) {
+			final int c = counts.getCrossingCount(sources[e], targets[e]);
+			if (c > 0) {
+				vars[k] = before[e];
+				coeffs[k] = c;
+				k++;
+			}
+		}
+		vars[k] = model.intVar(constant);
+		coeffs[k] = 1;
+		k++;
+		model.scalar(Arrays.copyOf(vars, k), Arrays.copyOf(coeffs, k), "=", objective).post();
+	}
+
+	private void setHeuristicSearch(final IntToDoubleFunction score) {
+		final TIntIntHashMap values = new TIntIntHashMap();
+		for (int e = 0; e < before.length; e++) {
+			values.put(before[e].getId(), score.applyAsDouble(sources[e]) <= score.applyAsDouble(targets[e]) ? 1 : 0);
+		}
+		getSolver().setSearch(
+				Search.intVarSearch(new InputOrder<>(model), guided(var -> values.get(var.getId())), before));
+	}
+
+	@Override
+	public void configureSearch() {
+		final BGraph gr = (BGraph) bigraph;
+		if (!config.contains(OCSearchFlag.DEFAULT) && before.length > 0) {
+			if (config.contains(OCSearchFlag.MEDIAN)) {
+				setHeuristicSearch(gr.getFreeMedians());
+			} else if (config.contains(OCSearchFlag.BARYCENTER)) {
+				setHeuristicSearch(gr.getFreeBarycenters());
+			}
+		}
+	}
+
+	@Override
+	public Solution createSolution() {
+		return new Solution(model, before);
+	}
+
+	@Override
+	protected Solution createGuide(final Optional<int[]> order) {
+		final Solution guide = new Solution(model, before);
+		order.ifPresent(o -> {
+			final int[] positions = new int[n];
+			for (int i = 0; i < o.length; i++) {
+				positions[o[i]] = i;
+			}
+			for (int e = 0; e < before.length; e++) {
+				guide.setIntVal(before[e], positions[sources[e]] < positions[targets[e]] ? 1 : 0);
+			}
+		});
+		return guide;
+	}
+
+	@Override
+	protected int[] getOrder(final Solution s) {
+		// The position of a vertex is its number of predecessors.
+		final int[] positions = ranks.clone();
+		for (int e = 0; e < before.length; e++) {
+			positions[s.getIntVal(before[e]) == 1 ? targets[e] : sources[e]]++;
+		}
+		final int[] order = new int[n];
+		for (int i = 0; i < n; i++) {
+			order[positions[i]] = i;
+		}
+		return order;
+	}
+
+	@Override
+	public String toString() {
+		return "LinearOrderingModel [\n" + bigraph + "\n" + model + "]";
+	}
+
+}
@@ -1,7 +1,7 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
@@ -10,24 +10,21 @@ package lignesclaires.solver;
 
 import static lignesclaires.solver.OCModelFlag.DISJ;
 import static lignesclaires.solver.OCModelFlag.LB;
-import static lignesclaires.solver.OCModelFlag.RR1;
-import static lignesclaires.solver.OCModelFlag.RR2;
-import static lignesclaires.solver.OCModelFlag.RR3;
 import static lignesclaires.solver.OCModelFlag.RRLO2;
 import static lignesclaires.solver.OCModelFlag.TRANS;
 
 import java.util.Arrays;
-import java.util.OptionalInt;
+import java.util.Optional;
 import java.util.logging.Level;
 
-import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.extension.Tuples;
-import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
 import org.chocosolver.solver.search.strategy.selectors.variables.InputOrder;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.tools.ArrayUtils;
 import org.jgrapht.Graph;
 import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jgrapht.graph.builder.GraphTypeBuilder;
@@ -36,6 +33,9 @@ import lignesclaires.LignesClaires;
 import lignesclaires.choco.MinFuncValueSelector;
 import lignesclaires.choco.PropAssignmentLowerBound;
 import lignesclaires.choco.PropBinaryDisjunction;
+import lignesclaires.choco.PropCyclePackingLowerBound;
+import lignesclaires.choco.PropLazyTransitivity;
+import lignesclaires.choco.PropPrefixLowerBound;
 import lignesclaires.config.LignesClairesConfig;
 import lignesclaires.graph.BGraph;
 import lignesclaires.graph.CrossingCounts;
@@ -44,37 +44,27 @@ import lignesclaires.graph.JGraphtUtil;
 import lignesclaires.specs.IBipartiteGraph;
 import lignesclaires.specs.IOCModel;
 
-public class OCModel implements IOCModel {
-
-	private final IBipartiteGraph bigraph;
-
-	private final LignesClairesConfig config;
-
-	private final Model model;
+public class OCModel extends AbstractOCModel implements IOCModel {
 
 	private final IntVar[] positions;
 
 	private final IntVar[] permutation;
 
-	private final IntVar objective;
+	private Optional<PropAssignmentLowerBound> assignmentLowerBound;
+
+	private Optional<PropLazyTransitivity> lazyTransitivity;
+
+	private Optional<PropCyclePackingLowerBound> cyclePackingLowerBound;
 
 	public OCModel(final IBipartiteGraph bigraph, final LignesClairesConfig config) {
-		super();
-		this.bigraph = bigraph;
-		this.config = config;
-		model = new Model("OCM");
+		super(bigraph, config);
 		final int n = bigraph.getFreeCount();
-		final int m = bigraph.getEdgeCount();
 		this.positions = model.intVarArray("pos", n, 0, n - 1, false);
 		this.permutation = model.intVarArray("seq", n, 0, n - 1, false);
 		model.inverseChanneling(positions, permutation).post();
-		objective = model.intVar("objective", 0, m * m);
-		model.setObjective(false, objective);
-	}
-
-	@Override
-	public IBipartiteGraph getGraph() {
-		return bigraph;
+		assignmentLowerBound = Optional.empty();
+		lazyTransitivity = Optional.empty();
+		cyclePackingLowerBound = Optional.empty();
 	}
 
 	@Override
@@ -87,11 +77,6 @@ public class OCModel implements IOCModel {
 		return permutation;
 	}
 
-	@Override
-	public IntVar getCrossingCountVar() {
-		return objective;
-	}
-
 	private interface CostConstraintBuilder {
 
 		Constraint buildCostConstraint(IntVar pi, IntVar pj, IntVar c);
@@ -151,10 +136,13 @@ public class OCModel implements IOCModel {
 		}
 
 		public void addOrdered(final int i, final int j) {
-			constant += counts.getCrossingCount(i, j);
 			positions[i].lt(positions[j]).post();
 		}
 
+		public void addComparable(final int i, final int j) {
+			constant += counts.getCrossingCount(i, j);
+		}
+
 		private IntVar createCostVar(final int i, final int j, final int cij, final int cji) {
 			return model.intVar("cost[" + i + "][" + j + "]", new int[] { cij, cji });
 		}
@@ -179,27 +167,86 @@ public class OCModel implements IOCModel {
 		}
 	}
 
-	public void postUpperBound(OptionalInt ub) {
-		ub.ifPresent(v -> objective.lt(v).post());
+	private void postAssignmentLowerBound() {
+		final PropAssignmentLowerBound prop = new PropAssignmentLowerBound(bigraph, positions, objective,
+				config.getLowerBoundPeriod());
+		model.post(new Constraint("AssignmentLowerBound", prop));
+		assignmentLowerBound = Optional.of(prop);
 	}
 
-	private void postLowerBound() {
-		final int lb = bigraph.getEdgeCount() - bigraph.getNodeCount() + 1;
-		objective.ge(lb).decompose().post();
+	@Override
+	public final Optional<PropAssignmentLowerBound> getAssignmentLowerBound() {
+		return assignmentLowerBound;
 	}
 
-	private void postAssignmentLowerBound() {
-		model.post(new Constraint("AssignmentLowerBound", new PropAssignmentLowerBound(bigraph, positions, objective)));
+	private void postCyclePackingLowerBound(final ReductionRules rules) {
+		final PropCyclePackingLowerBound prop = new PropCyclePackingLowerBound(new CyclePacking(rules), positions,
+				objective);
+		model.post(new Constraint("CyclePackingLowerBound", prop));
+		cyclePackingLowerBound = Optional.of(prop);
+	}
+
+	@Override
+	public final Optional<PropCyclePackingLowerBound> getCyclePackingLowerBound() {
+		return cyclePackingLowerBound;
+	}
+
+	private void postPrefixLowerBound() {
+		model.post(new Constraint("PrefixLowerBound", new PropPrefixLowerBound(bigraph, permutation, objective)));
+	}
+
+	private void postEagerTransitivity(final Graph<Integer, DisjunctiveEdge> disjGraph) {
+		final int[][] adjLists = GraphTriangles.toAdjacencyLists(disjGraph, bigraph.getFreeCount());
+		GraphTriangles.forEachCollectedTriangle(adjLists, (i, j, k) -> {
+			DisjunctiveEdge ij = disjGraph.getEdge(i, j);
+			DisjunctiveEdge jk = disjGraph.getEdge(j, k);
+			DisjunctiveEdge ki = disjGraph.getEdge(k, i);
+
+			model.table(new IntVar[] { ij.getCost(), jk.getCost(), ki.getCost() },
+					getGraph().getReducedCrossingCounts().getForbiddenCycles(i, j, k)).post();
+		});
+	}
+
+	private void postLazyTransitivity(final Graph<Integer, DisjunctiveEdge> disjGraph) {
+		final CrossingCounts counts = bigraph.getReducedCrossingCounts();
+		final int m = disjGraph.edgeSet().size();
+		if (m == 0) {
+			return;
+		}
+		final int[] sources = new int[m];
+		final int[] targets = new int[m];
+		final int[] forwardValues = new int[m];
+		final int[] backwardValues = new int[m];
+		final IntVar[] costs = new IntVar[m];
+		int e = 0;
+		for (DisjunctiveEdge edge : disjGraph.edgeSet()) {
+			sources[e] = disjGraph.getEdgeSource(edge);
+			targets[e] = disjGraph.getEdgeTarget(edge);
+			forwardValues[e] = counts.getCrossingCount(sources[e], targets[e]);
+			backwardValues[e] = counts.getCrossingCount(targets[e], sources[e]);
+			costs[e] = edge.getCost();
+			e++;
+		}
+		final PropLazyTransitivity prop = new PropLazyTransitivity(bigraph.getFreeCount(), sources, targets,
+				forwardValues, backwardValues, costs);
+		model.post(new Constraint("LazyTransitivity", prop));
+		lazyTransitivity = Optional.of(prop);
+	}
+
+	@Override
+	public final Optional<PropLazyTransitivity> getLazyTransitivity() {
+		return lazyTransitivity;
 	}
 
 	@Override
 	public void buildModel() {
 		final ObjectiveBuilder objBuilder = new ObjectiveBuilder(config.contains(DISJ));
-		final ReductionRules rules = new ReductionRules(bigraph, config.contains(RR1), config.contains(RR2),
-				config.contains(RR3));
+		final ReductionRules rules = buildReductionRules();
 
 		config.report(rules::exportGraph);
 		rules.forEachOrderedEdge(objBuilder::addOrdered);
+		// The pairs implied by transitivity are not in the ordered graph.
+		rules.forEachComparableEdge(objBuilder::addComparable);
 		rules.forEachIncomparableEdge(objBuilder::addIncomparable);
 		if (config.isReport()) {
 			LignesClaires.exportPlainDotGraph(objBuilder.disjGraph,
@@ -210,14 +257,11 @@ public class OCModel implements IOCModel {
 						rules.getIncomparableGraph().edgeSet().size() });
 
 		if (config.contains(TRANS)) {
-			GraphTriangles.forEachTriangle(objBuilder.disjGraph, (i, j, k) -> {
-				DisjunctiveEdge ij = objBuilder.disjGraph.getEdge(i, j);
-				DisjunctiveEdge jk = objBuilder.disjGraph.getEdge(j, k);
-				DisjunctiveEdge ki = objBuilder.disjGraph.getEdge(k, i);
-
-				model.table(new IntVar[] { ij.getCost(), jk.getCost(), ki.getCost() },
-						getGraph().getReducedCrossingCounts().getForbiddenCycles(i, j, k)).post();
-			});
+			if (config.isEagerTransitivity()) {
+				postEagerTransitivity(objBuilder.disjGraph);
+			} else {
+				postLazyTransitivity(objBuilder.disjGraph);
+			}
 		}
 
 		if (config.contains(RRLO2)) {
@@ -227,61 +271,62 @@ public class OCModel implements IOCModel {
 		if (config.contains(LB)) {
 			postLowerBound();
 			postAssignmentLowerBound();
+			postCyclePackingLowerBound(rules);
+			if (config.contains(OCSearchFlag.SEQUENCE)) {
+				postPrefixLowerBound();
+			}
 		}
 
 	}
 
+	@Override
 	public void configureSearch() {
 		BGraph gr = (BGraph) bigraph;
 		if (!config.contains(OCSearchFlag.DEFAULT)) {
 			if (config.contains(OCSearchFlag.MEDIAN)) {
 				if (config.contains(OCSearchFlag.SEQUENCE)) {
 					getSolver().setSearch(Search.intVarSearch(new InputOrder<>(model),
-							new MinFuncValueSelector(gr.getFreeCount(), gr.getFreeMedians()), permutation));
+							guided(new MinFuncValueSelector(gr.getFreeCount(), gr.getFreeMedians())), permutation));
 				} else {
-					getSolver().setSearch(Search.inputOrderLBSearch(gr.permutateMedians(positions)));
+					getSolver().setSearch(Search.intVarSearch(new InputOrder<>(model), guided(new IntDomainMin()),
+							gr.permutateMedians(positions)));
 				}
 			} else if (config.contains(OCSearchFlag.BARYCENTER)) {
 				if (config.contains(OCSearchFlag.SEQUENCE)) {
 					getSolver().setSearch(Search.intVarSearch(new InputOrder<>(model),
-							new MinFuncValueSelector(gr.getFreeCount(), gr.getFreeBarycenters()), permutation));
+							guided(new MinFuncValueSelector(gr.getFreeCount(), gr.getFreeBarycenters())), permutation));
 				} else {
-					getSolver().setSearch(Search.inputOrderLBSearch(gr.permutateBarycenters(positions)));
+					getSolver().setSearch(Search.intVarSearch(new InputOrder<>(model), guided(new IntDomainMin()),
+							gr.permutateBarycenters(positions)));
 				}
 			}
 		}
 	}
 
-	public void configureRestarts() {
-		final int n = bigraph.getFreeCount();
-		getSolver().setGeometricalRestart(n, 1.1, new FailCounter(model, 1), n);
-		getSolver().setNoGoodRecordingFromRestarts();
-	}
-
 	@Override
-	public final Model getModel() {
-		return model;
-	}
-
 	public final Solution createSolution() {
 		return new Solution(model, permutation);
 	}
 
-	public final int[] recordSolution(final Solution s) {
-		final int[] values = new int[permutation.length];
-		for (int i = 0; i < permutation.length; i++) {
-			values[i] = bigraph.getFreeNode(s.getIntVal(permutation[i]));
-		}
-		return values;
+	@Override
+	protected Solution createGuide(final Optional<int[]> order) {
+		final Solution guide = new Solution(model, ArrayUtils.append(positions, permutation));
+		order.ifPresent(o -> {
+			for (int i = 0; i < o.length; i++) {
+				guide.setIntVal(permutation[i], o[i]);
+				guide.setIntVal(positions[o[i]], i);
+			}
+		});
+		return guide;
 	}
 
-	public final String printSolution(final Solution s) {
-		final StringBuilder b = new StringBuilder();
-		b.append('v');
+	@Override
+	protected int[] getOrder(final Solution s) {
+		final int[] values = new int[permutation.length];
 		for (int i = 0; i < permutation.length; i++) {
-			b.append(' ').append(s.getIntVal(permutation[i]));
+			values[i] = s.getIntVal(permutation[i]);
 		}
-		return b.toString();
+		return values;
 	}
 
 	public void postPermutationBinaryTable(final Tuples tuples) {
@@ -0,0 +1,159 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.SearchState;
+
+import lignesclaires.LignesClaires;
+import lignesclaires.choco.ChocoLogger;
+import lignesclaires.choco.SharedBoundMonitor;
+import lignesclaires.config.LignesClairesConfig;
+import lignesclaires.specs.IBipartiteGraph;
+import lignesclaires.specs.IOCSolver;
+
+/**
+ * Portfolio of Choco models with different flags solved in parallel.
+ *
+ * The workers share their incumbent: each worker pulls the best objective into
+ * its own objective manager, so its next propagation tightens the upper bound
+ * of the objective variable, which is read by the lower bound propagators. The
+ * first worker that completes its search ends the run.
+ */
+public class OCPortfolioSolver implements IOCSolver {
+
+	/**
+	 * The flags toggled from the configuration by a worker.
+	 */
+	private static final class Variant {
+
+		private final EnumSet<OCModelFlag> modelFlags;
+		private final EnumSet<OCSearchFlag> searchFlags;
+
+		Variant(final EnumSet<OCModelFlag> modelFlags, final EnumSet<OCSearchFlag> searchFlags) {
+			super();
+			this.modelFlags = modelFlags;
+			this.searchFlags = searchFlags;
+		}
+
+		Variant(final OCSearchFlag... searchFlags) {
+			this(EnumSet.noneOf(OCModelFlag.class), toSet(OCSearchFlag.class, searchFlags));
+		}
+
+		Variant(final OCModelFlag modelFlag, final OCSearchFlag... searchFlags) {
+			this(EnumSet.of(modelFlag), toSet(OCSearchFlag.class, searchFlags));
+		}
+
+		private static <E extends Enum<E>> EnumSet<E> toSet(final Class<E> clazz, final E[] flags) {
+			final EnumSet<E> set = EnumSet.noneOf(clazz);
+			Collections.addAll(set, flags);
+			return set;
+		}
+
+		private static <E extends Enum<E>> EnumSet<E> toggle(final EnumSet<E> mask, final EnumSet<E> flags) {
+			final EnumSet<E> res = EnumSet.copyOf(mask);
+			for (E flag : flags) {
+				if (!res.remove(flag)) {
+					res.add(flag);
+				}
+			}
+			return res;
+		}
+
+		LignesClairesConfig apply(final LignesClairesConfig config) {
+			final LignesClairesConfig c = config.copy();
+			c.setModelMask(toggle(config.getModelMask(), modelFlags));
+			c.setSearchMask(toggle(config.getSearchMask(), searchFlags));
+			return c;
+		}
+	}
+
+	private static final Variant[] VARIANTS = { new Variant(), new Variant(OCSearchFlag.MEDIAN),
+			new Variant(OCSearchFlag.RESTARTS), new Variant(OCModelFlag.LB),
+			new Variant(OCSearchFlag.MEDIAN, OCSearchFlag.RESTARTS), new Variant(OCSearchFlag.DEFAULT),
+			new Variant(OCModelFlag.LB, OCSearchFlag.MEDIAN), new Variant(OCSearchFlag.LEARNING),
+			new Variant(OCModelFlag.LO) };
+
+	public static List<LignesClairesConfig> getWorkerConfigs(final LignesClairesConfig config) {
+		final int n = Math.max(1, Math.min(config.getWorkers(), VARIANTS.length));
+		final List<LignesClairesConfig> configs = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			configs.add(VARIANTS[i].apply(config));
+		}
+		return configs;
+	}
+
+	@Override
+	public OCSolution solve(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final LignesClairesConfig config) throws OCSolverException {
+		if (initialSolution.getStatus() == Status.OPTIMUM) {
+			return initialSolution;
+		}
+		final List<AbstractOCModel> models = new ArrayList<>();
+		for (LignesClairesConfig c : getWorkerConfigs(config)) {
+			LignesClaires.LOGGER.log(Level.CONFIG, "Build portfolio worker:\n{0}", c);
+			models.add(OCSolver.build(bigraph, initialSolution, c));
+		}
+		if (config.isDryRun()) {
+			return initialSolution;
+		}
+		final SharedIncumbent incumbent = new SharedIncumbent(initialSolution);
+		for (AbstractOCModel mod : models) {
+			mod.getSolver().addStopCriterion(incumbent::isClosed);
+			SharedBoundMonitor.plug(mod.getSolver(), incumbent::getBound);
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(models.size());
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for (AbstractOCModel mod : models) {
+				futures.add(executor.submit(() -> solveWorker(mod, incumbent)));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (ExecutionException e) {
+			throw new OCSolverException("Portfolio worker failed", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OCSolverException("Portfolio interrupted", e);
+		} finally {
+			executor.shutdownNow();
+		}
+		for (AbstractOCModel mod : models) {
+			ChocoLogger.logOnSolver(mod);
+		}
+		return incumbent.getSolution();
+	}
+
+	private static void solveWorker(final AbstractOCModel mod, final SharedIncumbent incumbent) {
+		final Solver solver = mod.getSolver();
+		final Solution sol = mod.createSolution();
+		while (solver.solve()) {
+			sol.record();
+			ChocoLogger.logOnSolution(mod, sol);
+			incumbent.offer(mod.getCrossingCountVar().getValue(), mod.recordSolution(sol));
+		}
+		if (solver.getSearchState() == SearchState.TERMINATED) {
+			incumbent.close();
+		}
+	}
+
+}
@@ -1,17 +1,22 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
  */
 package lignesclaires.solver;
 
+import java.util.OptionalInt;
+import java.util.logging.Level;
+
 import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.Solver;
 
+import lignesclaires.LignesClaires;
 import lignesclaires.choco.ChocoLogger;
+import lignesclaires.choco.DualBoundMonitor;
 import lignesclaires.cmd.Verbosity;
 import lignesclaires.config.LignesClairesConfig;
 import lignesclaires.specs.IBipartiteGraph;
@@ -25,63 +30,144 @@ public class OCSolver implements IOCSolver {
 		if (initialSolution.getStatus() == Status.OPTIMUM) {
 			return initialSolution;
 		}
-		final OCModel mod = build(bigraph, initialSolution, config);
-		if (config.isDryRun()) {
-			return initialSolution;
-		} else {
-			final Solver solver = mod.getSolver();
-			final Solution sol = mod.createSolution();
-			while (solver.solve()) {
-				sol.record();
-				ChocoLogger.logOnSolution(mod, sol);
-			}
-			if (solver.getSolutionCount() > 0) {
-				ChocoLogger.logOnBestSolution(mod, sol);
-			}
-			ChocoLogger.logOnSolver(mod);
-
-			final Status status = Status.getStatus(mod);
-			switch (status) {
-			case OPTIMUM:
-			case SATISFIABLE:
-				return new OCSolution(status, solver.getBestSolutionValue().intValue(), mod.recordSolution(sol));
-			case UNSATISFIABLE: {
-				return initialSolution.getStatus() == Status.SATISFIABLE
-						? new OCSolution(Status.OPTIMUM, initialSolution.getObjective(),
-								initialSolution.getPermutation())
-						: new OCSolution(Status.UNSATISFIABLE);
-			}
-			default:
-				return initialSolution;
+		final long deadline = config.getDeadline(System.currentTimeMillis());
+		final int n = bigraph.getFreeCount();
+		if (!config.isDryRun() && n <= Math.min(config.getSubsetDPSize(), OCSubsetDPSolver.MAX_SIZE)) {
+			return new OCSubsetDPSolver().solve(bigraph, initialSolution, config);
+		}
+		if (!config.isDryRun() && config.getIdealBudget() > 0) {
+			final OCSolution solution = new OCIdealDPSolver().solve(bigraph, initialSolution, config, deadline);
+			if (solution.getStatus() == Status.OPTIMUM) {
+				return solution;
 			}
+		}
+		final OptionalInt lb = config.isDryRun() || config.getRelaxationCuts() <= 0
+				|| n > LinearOrderingRelaxation.MAX_SIZE ? OptionalInt.empty()
+						: OptionalInt.of(solveRelaxation(bigraph, initialSolution, config, deadline));
+		if (lb.isPresent() && initialSolution.getObjective().isPresent()
+				&& lb.getAsInt() >= initialSolution.getObjective().getAsInt()) {
+			LignesClaires.LOGGER.info("Certify linear relaxation [OK]");
+			return new OCSolution(Status.OPTIMUM, initialSolution.getObjective(), initialSolution.getPermutation());
+		}
+		final AbstractOCModel mod = build(bigraph, initialSolution, config, deadline);
+		lb.ifPresent(mod::postRootLowerBound);
+		return config.isDryRun() ? initialSolution : solveModel(mod, initialSolution);
+	}
+
+	/**
+	 * Solve the linear relaxation during at most a tenth of the time limit.
+	 */
+	static int solveRelaxation(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final LignesClairesConfig config, final long deadline) {
+		final ReductionRules rules = new ReductionRules(bigraph, config.contains(OCModelFlag.RR1),
+				config.contains(OCModelFlag.RR2), config.contains(OCModelFlag.RR3));
+		final LinearOrderingRelaxation lp = new LinearOrderingRelaxation(rules);
+		final long lpDeadline = config.getTimeLimit() > 0
+				? Math.min(deadline, System.currentTimeMillis() + config.getTimeLimit() * 100)
+				: Long.MAX_VALUE;
+		final int lb = lp.solve(config.getRelaxationCuts(), initialSolution.getObjective().orElse(Integer.MAX_VALUE),
+				lpDeadline);
+		LignesClaires.LOGGER.log(Level.INFO,
+				"Linear relaxation:\nd LP_BOUND {0,number,#}\nd LP_CUTS {1,number,#}\nd LP_ROWS {2,number,#}\nd LP_ROUNDS {3}\nd LP_PIVOTS {4,number,#}",
+				new Object[] { lb, lp.getCutCount(), lp.getRowCount(), lp.getRoundCount(), lp.getPivotCount() });
+		return lb;
+	}
 
+	/**
+	 * Solve the configured model. The initial solution is optimal if the model
+	 * is unsatisfiable, because its objective is a strict upper bound.
+	 */
+	static OCSolution solveModel(final AbstractOCModel mod, final OCSolution initialSolution) {
+		final Solver solver = mod.getSolver();
+		final Solution sol = mod.createSolution();
+		while (solver.solve()) {
+			sol.record();
+			ChocoLogger.logOnSolution(mod, sol);
+		}
+		if (solver.getSolutionCount() > 0) {
+			ChocoLogger.logOnBestSolution(mod, sol);
+		}
+		ChocoLogger.logOnSolver(mod);
+		ChocoLogger.logOnPropagators(mod);
+
+		final Status status = Status.getStatus(mod);
+		switch (status) {
+		case OPTIMUM:
+		case SATISFIABLE:
+			return new OCSolution(status, solver.getBestSolutionValue().intValue(), mod.recordSolution(sol));
+		case UNSATISFIABLE: {
+			return initialSolution.getStatus() == Status.SATISFIABLE
+					? new OCSolution(Status.OPTIMUM, initialSolution.getObjective(), initialSolution.getPermutation())
+					: new OCSolution(Status.UNSATISFIABLE);
+		}
+		default:
+			return initialSolution;
 		}
 	}
 
-	private OCModel build(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+	static AbstractOCModel build(final IBipartiteGraph bigraph, final OCSolution initialSolution,
 			final LignesClairesConfig config) {
-		final OCModel mod = new OCModel(bigraph, config);
-		mod.buildModel();
-		mod.postUpperBound(initialSolution.getObjective());
+		final long deadline = config.getDeadline(System.currentTimeMillis());
+		return build(bigraph, initialSolution, config, deadline);
+	}
 
-		mod.configureSearch();
-		if (config.contains(OCSearchFlag.RESTARTS)) {
-			mod.configureRestarts();
-		}
+	/**
+	 * Build the model whose time limit is the time remaining before the deadline.
+	 */
+	static AbstractOCModel build(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final LignesClairesConfig config, final long deadline) {
+		final AbstractOCModel mod = config.contains(OCModelFlag.LO) ? new OCLinearOrderingModel(bigraph, config)
+				: new OCModel(bigraph, config);
+		configure(mod, initialSolution, config);
+		mod.getSolver().plugMonitor(new DualBoundMonitor(mod.getSolver(), mod.getCrossingCountVar()));
+		limit(mod, config, deadline);
+		return mod;
+	}
 
+	static void limit(final AbstractOCModel mod, final LignesClairesConfig config) {
+		final long deadline = config.getDeadline(System.currentTimeMillis());
+		limit(mod, config, deadline);
+	}
+
+	static void limit(final AbstractOCModel mod, final LignesClairesConfig config, final long deadline) {
 		final Solver solver = mod.getSolver();
 		if (config.getTimeLimit() > 0) {
-			solver.limitTime(config.getTimeLimit() * 1000);
+			solver.limitTime(Math.max(1, deadline - System.currentTimeMillis()));
 		}
 		if (config.getSolutionLimit() > 0) {
 			solver.limitSolution(config.getSolutionLimit());
 		}
+		if (config.getAbsoluteGap() > 0 || config.getRelativeGap() > 0) {
+			solver.addStopCriterion(
+					() -> DualBoundMonitor.isGapReached(solver, config.getAbsoluteGap(), config.getRelativeGap()));
+		}
+	}
+
+	/**
+	 * Build the model and configure the search, but not the limits of the
+	 * solver.
+	 */
+	static void configure(final AbstractOCModel mod, final OCSolution initialSolution,
+			final LignesClairesConfig config) {
+		// The upper bound is known when building the model for the probing.
+		mod.postUpperBound(initialSolution.getObjective());
+		mod.buildModel();
+
+		if (config.isGuided()) {
+			mod.configureGuide(initialSolution);
+		}
+		mod.configureSearch();
+		if (config.contains(OCSearchFlag.RESTARTS)) {
+			mod.configureRestarts();
+		}
+		if (config.contains(OCSearchFlag.LEARNING)) {
+			mod.configureLearning();
+		}
 
 		ChocoLogger.logOnModel(mod);
 		if (config.getVerbosity() == Verbosity.TRACE) {
-			solver.showDecisions();
+			mod.getSolver().showDecisions();
 		}
-		return mod;
 	}
 
 }
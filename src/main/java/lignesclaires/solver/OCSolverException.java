@@ -1,7 +1,7 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
@@ -16,4 +16,8 @@ public class OCSolverException extends Exception {
         super(message);
     }
 
+    public OCSolverException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+
 }
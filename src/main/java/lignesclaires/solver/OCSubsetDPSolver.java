@@ -0,0 +1,112 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.util.logging.Level;
+import java.util.stream.IntStream;
+
+import lignesclaires.LignesClaires;
+import lignesclaires.config.LignesClairesConfig;
+import lignesclaires.graph.CrossingCounts;
+import lignesclaires.specs.IBipartiteGraph;
+import lignesclaires.specs.IOCSolver;
+
+/**
+ * Exact dynamic programming over the subsets of free nodes placed first.
+ *
+ * The cost of a subset S is the minimum crossing count of the orders of S, and
+ * the cost of appending a node v after S is the sum of the reduced crossing
+ * counts c(u, v) for u in S. The costs of appending are split into two tables
+ * indexed by the low and high halves of the subsets, so that the memory is
+ * dominated by the 2^n costs of the subsets.
+ */
+public class OCSubsetDPSolver implements IOCSolver {
+
+	/**
+	 * The tables of the subsets take 5 * 2^n bytes (160 MiB for 25 nodes).
+	 */
+	public static final int MAX_SIZE = 25;
+
+	@Override
+	public OCSolution solve(final IBipartiteGraph bigraph, final OCSolution initialSolution,
+			final LignesClairesConfig config) throws OCSolverException {
+		if (initialSolution.getStatus() == Status.OPTIMUM) {
+			return initialSolution;
+		}
+		final int n = bigraph.getFreeCount();
+		if (n > MAX_SIZE) {
+			throw new OCSolverException("Too many free nodes for the subset dynamic programming: " + n);
+		}
+		final CrossingCounts counts = bigraph.getReducedCrossingCounts();
+		final int[] nodes = IntStream.range(0, n).toArray();
+		final int cost = optimize(counts, nodes);
+		LignesClaires.LOGGER.log(Level.INFO, "Subset dynamic programming:\nd DP_STATES {0,number,#}", 1 << n);
+		return new OCSolution(Status.OPTIMUM, counts.getConstant() + cost,
+				IntStream.of(nodes).map(bigraph::getFreeNode).toArray());
+	}
+
+	/**
+	 * Order a subset of nodes optimally.
+	 *
+	 * @param counts the crossing counts
+	 * @param nodes  the nodes which are reordered in place
+	 * @return the crossing count of the pairs of nodes of the subset
+	 */
+	static int optimize(final CrossingCounts counts, final int[] nodes) {
+		final int n = nodes.length;
+		final int lowSize = n / 2;
+		final int lowMask = (1 << lowSize) - 1;
+		final int[][] low = buildCosts(counts, nodes, 0, lowSize);
+		final int[][] high = buildCosts(counts, nodes, lowSize, n);
+
+		final int[] costs = new int[1 << n];
+		final byte[] lasts = new byte[1 << n];
+		for (int s = 1; s < costs.length; s++) {
+			int best = Integer.MAX_VALUE;
+			for (int r = s; r != 0; r &= r - 1) {
+				final int v = Integer.numberOfTrailingZeros(r);
+				final int prev = s ^ (1 << v);
+				final int cost = costs[prev] + low[v][prev & lowMask] + high[v][prev >>> lowSize];
+				if (cost < best) {
+					best = cost;
+					lasts[s] = (byte) v;
+				}
+			}
+			costs[s] = best;
+		}
+
+		final int[] order = new int[n];
+		int s = costs.length - 1;
+		for (int k = n - 1; k >= 0; k--) {
+			final int v = lasts[s];
+			order[k] = nodes[v];
+			s ^= 1 << v;
+		}
+		System.arraycopy(order, 0, nodes, 0, n);
+		return costs[costs.length - 1];
+	}
+
+	/**
+	 * Build the costs of appending each node after the subsets of the nodes in
+	 * [from, to).
+	 */
+	private static int[][] buildCosts(final CrossingCounts counts, final int[] nodes, final int from,
+			final int to) {
+		final int[][] costs = new int[nodes.length][1 << (to - from)];
+		for (int v = 0; v < nodes.length; v++) {
+			final int[] row = costs[v];
+			for (int s = 1; s < row.length; s++) {
+				final int u = from + Integer.numberOfTrailingZeros(s);
+				row[s] = row[s & (s - 1)] + counts.getCrossingCount(nodes[u], nodes[v]);
+			}
+		}
+		return costs;
+	}
+
+}
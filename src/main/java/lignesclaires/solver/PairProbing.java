@@ -0,0 +1,173 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import lignesclaires.graph.CrossingCounts;
+
+/**
+ * Probing of the orientations of the incomparable pairs against an upper bound.
+ *
+ * Fixing the orientation i before j also orders the predecessors of i before
+ * the successors of j. The lower bound of the orientation is the constant of
+ * the reduced crossing counts, plus the reduced counts of the comparable pairs
+ * and of the pairs ordered by the orientation. If it reaches the upper bound,
+ * an improving solution orders j before i. The pairs are probed in parallel,
+ * and the rounds are repeated until no pair is oriented.
+ */
+public class PairProbing {
+
+	private final CrossingCounts counts;
+
+	private final int n;
+
+	// succs[i] and preds[i] are the successors and predecessors of i in the
+	// transitive closure.
+	private final BitSet[] succs;
+
+	private final BitSet[] preds;
+
+	private int roundCount;
+
+	public PairProbing(final ReductionRules rules) {
+		super();
+		this.counts = rules.getBiGraph().getReducedCrossingCounts();
+		this.n = rules.getBiGraph().getFreeCount();
+		this.succs = new BitSet[n];
+		this.preds = new BitSet[n];
+		for (int i = 0; i < n; i++) {
+			succs[i] = new BitSet(n);
+			preds[i] = new BitSet(n);
+		}
+		rules.forEachComparableEdge((i, j) -> {
+			succs[i].set(j);
+			preds[j].set(i);
+		});
+	}
+
+	public final int getRoundCount() {
+		return roundCount;
+	}
+
+	private int getLowerBound() {
+		int lb = counts.getConstant();
+		for (int i = 0; i < n; i++) {
+			for (int j = succs[i].nextSetBit(0); j >= 0; j = succs[i].nextSetBit(j + 1)) {
+				lb += counts.getCrossingCount(i, j);
+			}
+		}
+		return lb;
+	}
+
+	private boolean isComparable(final int i, final int j) {
+		return succs[i].get(j) || preds[i].get(j);
+	}
+
+	/**
+	 * Return the reduced counts of the pairs ordered by the orientation i before
+	 * j, or the slack if it is reached.
+	 */
+	private int getOrientationCost(final int i, final int j, final int slack) {
+		final BitSet before = (BitSet) preds[i].clone();
+		before.set(i);
+		final BitSet after = (BitSet) succs[j].clone();
+		after.set(j);
+		int cost = 0;
+		for (int a = before.nextSetBit(0); a >= 0; a = before.nextSetBit(a + 1)) {
+			for (int b = after.nextSetBit(0); b >= 0; b = after.nextSetBit(b + 1)) {
+				if (!succs[a].get(b)) {
+					cost += counts.getCrossingCount(a, b);
+					if (cost >= slack) {
+						return slack;
+					}
+				}
+			}
+		}
+		return cost;
+	}
+
+	private List<int[]> probe(final int i, final int slack) {
+		final List<int[]> oriented = new ArrayList<>();
+		for (int j = i + 1; j < n; j++) {
+			if (!isComparable(i, j)) {
+				final boolean forward = getOrientationCost(i, j, slack) < slack;
+				final boolean backward = getOrientationCost(j, i, slack) < slack;
+				if (!forward) {
+					oriented.add(new int[] { j, i });
+				}
+				if (!backward) {
+					oriented.add(new int[] { i, j });
+				}
+			}
+		}
+		return oriented;
+	}
+
+	/**
+	 * Add an edge and its transitive consequences to the closure.
+	 *
+	 * @return <code>false</code> if the edge closes a cycle
+	 */
+	private boolean addEdge(final int i, final int j) {
+		if (i == j || preds[i].get(j)) {
+			return false;
+		}
+		if (succs[i].get(j)) {
+			return true;
+		}
+		final BitSet before = (BitSet) preds[i].clone();
+		before.set(i);
+		final BitSet after = (BitSet) succs[j].clone();
+		after.set(j);
+		for (int a = before.nextSetBit(0); a >= 0; a = before.nextSetBit(a + 1)) {
+			succs[a].or(after);
+		}
+		for (int b = after.nextSetBit(0); b >= 0; b = after.nextSetBit(b + 1)) {
+			preds[b].or(before);
+		}
+		return true;
+	}
+
+	/**
+	 * Orient the incomparable pairs until a fixpoint is reached.
+	 *
+	 * @param upperBound a strict upper bound of the crossing count
+	 * @return the oriented pairs (i, j) such that i is before j, or an empty
+	 *         optional if there is no solution below the upper bound
+	 */
+	public Optional<List<int[]>> probe(final int upperBound) {
+		final List<int[]> oriented = new ArrayList<>();
+		roundCount = 0;
+		while (true) {
+			roundCount++;
+			final int slack = upperBound - getLowerBound();
+			if (slack <= 0) {
+				return Optional.empty();
+			}
+			final List<int[]> round = IntStream.range(0, n).parallel().mapToObj(i -> probe(i, slack))
+					.flatMap(List::stream).collect(Collectors.toList());
+			if (round.isEmpty()) {
+				return Optional.of(oriented);
+			}
+			for (int[] edge : round) {
+				if (!addEdge(edge[0], edge[1])) {
+					return Optional.empty();
+				}
+			}
+			oriented.addAll(round);
+		}
+	}
+
+}
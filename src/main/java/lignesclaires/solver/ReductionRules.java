@@ -1,7 +1,7 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
@@ -11,6 +11,7 @@ package lignesclaires.solver;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.jgrapht.Graph;
 import org.jgrapht.Graphs;
@@ -33,6 +34,7 @@ public class ReductionRules {
 	private final CrossingCounts counts;
 
 	private final DirectedAcyclicGraph<Integer, DefaultEdge> ordered;
+	private final DirectedAcyclicGraph<Integer, DefaultEdge> closure;
 	private final Graph<Integer, DefaultEdge> incomparable;
 	private final IReductionRule[] rules;
 
@@ -41,6 +43,7 @@ public class ReductionRules {
 		this.graph = graph;
 		this.counts = graph.getCrossingCounts();
 		ordered = JGraphtUtil.directedAcyclic();
+		closure = JGraphtUtil.directedAcyclic();
 		this.incomparable = JGraphtUtil.unweightedUndirected();
 		rules = buildRules(useRule1, useRule2, useRule3);
 		buildOrderedGraph();
@@ -63,10 +66,33 @@ public class ReductionRules {
 		JGraphtUtil.forEachEdge(ordered, consumer);
 	}
 
+	public void forEachComparableEdge(IEdgeConsumer consumer) {
+		JGraphtUtil.forEachEdge(closure, consumer);
+	}
+
 	public void forEachIncomparableEdge(IEdgeConsumer consumer) {
 		JGraphtUtil.forEachEdge(incomparable, consumer);
 	}
 
+	/**
+	 * Add ordered edges, for instance given by a probing, and update the
+	 * comparable and incomparable pairs.
+	 *
+	 * @param edges the pairs (i, j) such that i is before j
+	 */
+	public void addOrderedEdges(final List<int[]> edges) {
+		if (edges.isEmpty()) {
+			return;
+		}
+		for (int[] edge : edges) {
+			ordered.addEdge(edge[0], edge[1]);
+		}
+		TransitiveReduction.INSTANCE.reduce(ordered);
+		closure.removeAllEdges(new ArrayList<>(closure.edgeSet()));
+		incomparable.removeAllVertices(new ArrayList<>(incomparable.vertexSet()));
+		buildIncomparableGraph();
+	}
+
 	public final void exportGraph(final String filePathNoExt) {
 		LignesClaires.exportPlainDotGraph(ordered, filePathNoExt + "-ordered.dot");
 		LignesClaires.exportPlainDotGraph(incomparable, filePathNoExt + "-incomparable.dot");
@@ -106,7 +132,6 @@ public class ReductionRules {
 	}
 
 	private void buildIncomparableGraph() {
-		final DirectedAcyclicGraph<Integer, DefaultEdge> closure = new DirectedAcyclicGraph<>(DefaultEdge.class);
 		Graphs.addGraph(closure, ordered);
 		TransitiveClosure.INSTANCE.closeDirectedAcyclicGraph(closure);
 		final ComplementGraphGenerator<Integer, DefaultEdge> complement = new ComplementGraphGenerator<>(
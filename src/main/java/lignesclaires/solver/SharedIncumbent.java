@@ -0,0 +1,126 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * The best solution found by concurrent workers.
+ *
+ * The objective is published through an atomic bound, so that each worker
+ * pulls it on its own thread (see {@link lignesclaires.choco.SharedBoundMonitor}).
+ * The listeners are notified of each improvement of the objective, and the
+ * incumbent is closed as soon as a worker proves its optimality.
+ */
+public class SharedIncumbent {
+
+	private int objective;
+
+	// The objective, or Integer.MAX_VALUE if there is no solution.
+	private final AtomicInteger bound;
+
+	private int[] permutation;
+
+	private volatile boolean closed;
+
+	private final List<IntConsumer> listeners;
+
+	public SharedIncumbent(final OCSolution initialSolution) {
+		super();
+		objective = initialSolution.getObjective().orElse(Integer.MAX_VALUE);
+		permutation = initialSolution.getPermutation().orElse(null);
+		bound = new AtomicInteger(objective);
+		listeners = new ArrayList<>();
+	}
+
+	/**
+	 * Add a listener of the improvements of the objective. The listeners are
+	 * called by the thread of the improving worker, so they must not modify the
+	 * state of another worker.
+	 *
+	 * @param listener the listener of the new objective values
+	 */
+	public synchronized void addListener(final IntConsumer listener) {
+		listeners.add(listener);
+	}
+
+	public final synchronized int getObjective() {
+		return objective;
+	}
+
+	/**
+	 * Return the objective of the incumbent, or {@link Integer#MAX_VALUE} if there
+	 * is none, without locking.
+	 */
+	public final int getBound() {
+		return bound.get();
+	}
+
+	/**
+	 * Wait until the objective is below a value, or the timeout elapses.
+	 *
+	 * @param value  the value to improve
+	 * @param millis the timeout in milliseconds
+	 */
+	public synchronized void awaitBound(final int value, final long millis) {
+		if (bound.get() >= value) {
+			try {
+				wait(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	public final synchronized boolean hasSolution() {
+		return permutation != null;
+	}
+
+	/**
+	 * Offer a solution to the incumbent.
+	 *
+	 * @param objective   the number of crossings
+	 * @param permutation the free nodes in order
+	 * @return <code>true</code> if the solution improves the incumbent
+	 */
+	public synchronized boolean offer(final int objective, final int[] permutation) {
+		if (objective < this.objective) {
+			this.objective = objective;
+			this.permutation = permutation;
+			bound.set(objective);
+			listeners.forEach(l -> l.accept(objective));
+			notifyAll();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Close the incumbent when the search space of a worker has been explored.
+	 */
+	public final void close() {
+		closed = true;
+	}
+
+	public final boolean isClosed() {
+		return closed;
+	}
+
+	public synchronized OCSolution getSolution() {
+		if (permutation == null) {
+			return new OCSolution(closed ? Status.UNSATISFIABLE : Status.UNKNOWN);
+		} else {
+			return new OCSolution(closed ? Status.OPTIMUM : Status.SATISFIABLE, objective, permutation);
+		}
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires.solver;
+
+import java.util.stream.IntStream;
+
+import lignesclaires.graph.CrossingCounts;
+
+/**
+ * Improve a permutation by optimizing windows of consecutive positions.
+ *
+ * The crossing counts between a node of a window and the nodes outside the
+ * window do not depend on the order of the window. So, each window is ordered
+ * optimally by the subset dynamic programming. A pass optimizes disjoint
+ * windows in parallel, and the next pass shifts the windows by half of their
+ * width. The passes stop when the two last passes do not improve the
+ * permutation.
+ */
+public final class WindowOptimizer {
+
+	/**
+	 * The windows are optimized in parallel, each one with 5 * 2^w bytes.
+	 */
+	public static final int MAX_WIDTH = 16;
+
+	private WindowOptimizer() {
+	}
+
+	private static int optimize(final CrossingCounts counts, final Integer[] permutation, final int from,
+			final int to) {
+		final int[] nodes = new int[to - from];
+		int cost = 0;
+		for (int i = from; i < to; i++) {
+			nodes[i - from] = permutation[i];
+			for (int j = i + 1; j < to; j++) {
+				cost += counts.getCrossingCount(permutation[i], permutation[j]);
+			}
+		}
+		final int delta = cost - OCSubsetDPSolver.optimize(counts, nodes);
+		if (delta > 0) {
+			for (int i = from; i < to; i++) {
+				permutation[i] = nodes[i - from];
+			}
+		}
+		return delta;
+	}
+
+	/**
+	 * Optimize the windows of a permutation.
+	 *
+	 * @param counts      the crossing counts
+	 * @param permutation the permutation which is improved in place
+	 * @param width       the width of the windows (at most MAX_WIDTH)
+	 * @return the decrease of the crossing count
+	 */
+	public static int optimize(final CrossingCounts counts, final Integer[] permutation, final int width) {
+		final int n = permutation.length;
+		final int w = Math.min(Math.min(width, n), MAX_WIDTH);
+		if (w < 2) {
+			return 0;
+		}
+		final int shift = Math.max(1, w / 2);
+		int delta = 0;
+		int offset = 0;
+		int stalled = 0;
+		while (stalled < 2) {
+			final int start = offset;
+			// The windows start at offset - w to cover the first positions.
+			final int count = (n - start + w - 1) / w + 1;
+			final int passDelta = IntStream.range(0, count).parallel()
+					.map(k -> optimize(counts, permutation, Math.max(0, start + (k - 1) * w),
+							Math.min(n, start + k * w)))
+					.sum();
+			delta += passDelta;
+			stalled = passDelta > 0 ? 0 : stalled + 1;
+			offset = (offset + shift) % w;
+		}
+		return delta;
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Test;
+
+import gnu.trove.list.array.TIntArrayList;
+import lignesclaires.graph.GraphTriangles;
+import lignesclaires.graph.TListUtil;
+
+public class TestGraphTriangles {
+
+	private static String toKey(int i, int j, int k) {
+		final int[] t = new int[] { i, j, k };
+		Arrays.sort(t);
+		return Arrays.toString(t);
+	}
+
+	private static int[][] randomGraph(final boolean[][] matrix, final Random rnd, final double density) {
+		final int n = matrix.length;
+		final TIntArrayList[] lists = TListUtil.createArrayOfTLists(n);
+		for (int i = 0; i < n; i++) {
+			for (int j = i + 1; j < n; j++) {
+				if (rnd.nextDouble() < density) {
+					matrix[i][j] = true;
+					matrix[j][i] = true;
+					lists[i].add(j);
+					lists[j].add(i);
+				}
+			}
+		}
+		return Arrays.stream(lists).map(TIntArrayList::toArray).toArray(int[][]::new);
+	}
+
+	private static Set<String> naiveTriangles(final boolean[][] matrix) {
+		final Set<String> triangles = ConcurrentHashMap.newKeySet();
+		final int n = matrix.length;
+		for (int i = 0; i < n; i++) {
+			for (int j = i + 1; j < n; j++) {
+				for (int k = j + 1; k < n; k++) {
+					if (matrix[i][j] && matrix[j][k] && matrix[k][i]) {
+						triangles.add(toKey(i, j, k));
+					}
+				}
+			}
+		}
+		return triangles;
+	}
+
+	private static void testTriangles(final int n, final double density, final long seed) {
+		final boolean[][] matrix = new boolean[n][n];
+		final int[][] adjLists = randomGraph(matrix, new Random(seed), density);
+		final Set<String> expected = naiveTriangles(matrix);
+
+		final Set<String> sequential = ConcurrentHashMap.newKeySet();
+		final int[] count = new int[1];
+		GraphTriangles.forEachTriangle(adjLists, (i, j, k) -> {
+			sequential.add(toKey(i, j, k));
+			count[0]++;
+		});
+		assertEquals(expected, sequential);
+		assertEquals(expected.size(), count[0]);
+
+		final Set<String> parallel = ConcurrentHashMap.newKeySet();
+		GraphTriangles.parallelForEachTriangle(adjLists, (i, j, k) -> parallel.add(toKey(i, j, k)));
+		assertEquals(expected, parallel);
+
+		final int[] triangles = GraphTriangles.collectTriangles(adjLists);
+		assertEquals(3 * expected.size(), triangles.length);
+		for (int t = 0; t < triangles.length; t += 3) {
+			assertEquals(true, expected.contains(toKey(triangles[t], triangles[t + 1], triangles[t + 2])));
+		}
+	}
+
+	@Test
+	public void testEmpty() {
+		testTriangles(0, 0.5, 0);
+		testTriangles(5, 0, 0);
+	}
+
+	@Test
+	public void testComplete() {
+		testTriangles(12, 1, 0);
+	}
+
+	@Test
+	public void testRandom() {
+		for (int seed = 0; seed < 10; seed++) {
+			testTriangles(40, 0.1 * (seed + 1), seed);
+		}
+	}
+
+}
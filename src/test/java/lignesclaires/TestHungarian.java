@@ -0,0 +1,101 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import lignesclaires.choco.HungarianAlgorithm;
+
+public class TestHungarian {
+
+	private final Random rnd = new Random(0);
+
+	private static long bruteForce(int[][] matrix, int row, boolean[] used) {
+		final int n = matrix.length;
+		if (row == n) {
+			return 0;
+		}
+		long best = Long.MAX_VALUE;
+		for (int j = 0; j < n; j++) {
+			if (!used[j]) {
+				used[j] = true;
+				best = Math.min(best, matrix[row][j] + bruteForce(matrix, row + 1, used));
+				used[j] = false;
+			}
+		}
+		return best;
+	}
+
+	private static long bruteForce(int[][] matrix) {
+		return bruteForce(matrix, 0, new boolean[matrix.length]);
+	}
+
+	private int[][] randomMatrix(int n, int bound) {
+		final int[][] matrix = new int[n][n];
+		for (int i = 0; i < n; i++) {
+			randomRow(matrix[i], bound);
+		}
+		return matrix;
+	}
+
+	private void randomRow(int[] row, int bound) {
+		for (int j = 0; j < row.length; j++) {
+			row[j] = rnd.nextInt(bound);
+		}
+	}
+
+	private static void assertDualFeasible(HungarianAlgorithm hungarian) {
+		final int n = hungarian.size();
+		for (int i = 0; i < n; i++) {
+			assertEquals(0, hungarian.getReducedCost(i, hungarian.getAssignedColumn(i)));
+			for (int j = 0; j < n; j++) {
+				assertTrue(hungarian.getReducedCost(i, j) >= 0);
+			}
+		}
+	}
+
+	@Test
+	public void testColdStart() {
+		for (int n = 1; n <= 7; n++) {
+			for (int k = 0; k < 20; k++) {
+				final int[][] matrix = randomMatrix(n, 50);
+				final HungarianAlgorithm hungarian = new HungarianAlgorithm(n);
+				assertEquals(bruteForce(matrix), hungarian.solve(matrix));
+				assertDualFeasible(hungarian);
+			}
+		}
+	}
+
+	@Test
+	public void testWarmStart() {
+		final int n = 7;
+		final int[][] matrix = randomMatrix(n, 50);
+		final HungarianAlgorithm hungarian = new HungarianAlgorithm(n);
+		for (int k = 0; k < 200; k++) {
+			assertEquals(bruteForce(matrix), hungarian.solve(matrix));
+			assertDualFeasible(hungarian);
+			// Increase or decrease the costs of a few rows
+			for (int r = rnd.nextInt(3); r >= 0; r--) {
+				randomRow(matrix[rnd.nextInt(n)], 50);
+			}
+		}
+	}
+
+	@Test
+	public void testEmpty() {
+		final HungarianAlgorithm hungarian = new HungarianAlgorithm(0);
+		assertEquals(0, hungarian.solve(new int[0][0]));
+	}
+
+}
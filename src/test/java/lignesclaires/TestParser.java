@@ -1,13 +1,14 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
  */
 package lignesclaires;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
@@ -17,6 +18,7 @@ import java.io.StringReader;
 import org.jgrapht.nio.ImportException;
 import org.junit.Test;
 
+import lignesclaires.graph.BGraph;
 import lignesclaires.parser.PaceInputParser;
 import lignesclaires.specs.IBipartiteGraph;
 import lignesclaires.specs.IGraph;
@@ -97,6 +99,21 @@ public class TestParser {
 		pb.assertNeighbors(5);
 	}
 
+	@Test
+	public void testCutwidthBiGraph() throws ImportException, FileNotFoundException {
+		pb.parse("p ocr 3 3 4 2\n" + "1\n" + "4\n" + "2\n" + "6\n" + "5\n" + "3\n" + "1 4\n" + "2 6\n" + "2 5\n"
+				+ "3 5\n");
+		pb.assertBiGraph(3, 3, 4);
+		final BGraph bigraph = (BGraph) pb.graph;
+		assertArrayEquals(new int[] { 1, 4, 2, 6, 5, 3 }, bigraph.getCutwidthOrdering().get());
+		assertEquals(1, bigraph.computeCutwidth());
+	}
+
+	@Test(expected = ImportException.class)
+	public void testInvalidCutwidthBiGraph() throws ImportException, FileNotFoundException {
+		pb.parse("p ocr 3 3 1 1\n" + "1\n" + "4\n" + "2\n" + "1 4\n");
+	}
+
 	@Test(expected = ImportException.class)
 	public void testInvalidBiGraph2() throws ImportException, FileNotFoundException {
 		pb.parse("p ocr 5 5 4\n" + "2 8\n" + "3 6\n" + "3 9\n" + "4 20\n");
@@ -1,7 +1,7 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
@@ -45,6 +45,13 @@ public class TestPropBinDisj {
 	}
 
 	public void testEnumerate(int expectedSolutionCount, boolean randomSearch) {
+		testEnumerate(expectedSolutionCount, randomSearch, false);
+	}
+
+	public void testEnumerate(int expectedSolutionCount, boolean randomSearch, boolean learning) {
+		if (learning) {
+			m.getSolver().setLearningSignedClauses();
+		}
 		if (randomSearch) {
 			m.getSolver().setSearch(Search.randomSearch(vars, expectedSolutionCount));
 		}
@@ -85,4 +92,52 @@ public class TestPropBinDisj {
 		b.ne(0).post();
 		testEnumerate(ns / 2, true);
 	}
+
+	@Test
+	public void testLearnBinDisj01() {
+		testEnumerate(ns, true, true);
+	}
+
+	private IntVar[] postTriangle(final IntVar z) {
+		final IntVar c = m.intVar("c", new int[] { 0, n });
+		final IntVar d = m.intVar("d", new int[] { 0, n });
+		m.post(new Constraint("YZ", new PropBinaryDisjunction(new IntVar[] { y, z, c })));
+		m.post(new Constraint("ZX", new PropBinaryDisjunction(new IntVar[] { z, x, d })));
+		return new IntVar[] { x, y, z, b, c, d };
+	}
+
+	private long countTriangleSolutions(final boolean learning) {
+		buildModel();
+		final IntVar[] tvars = postTriangle(m.intVar("z", 0, n));
+		if (learning) {
+			m.getSolver().setLearningSignedClauses();
+		}
+		// Branch on the disjunctions first, so the conflicts happen during search.
+		m.getSolver().setSearch(Search.inputOrderLBSearch(tvars[3], tvars[4], tvars[5], tvars[0], tvars[1], tvars[2]));
+		final long count = m.getSolver().streamSolutions().count();
+		Assert.assertTrue(m.getSolver().getFailCount() > 0);
+		return count;
+	}
+
+	@Test
+	public void testLearnBinDisjTriangle() {
+		// The three values are distinct and each order is a solution.
+		final long expected = (n + 1) * n * (n - 1);
+		Assert.assertEquals(expected, countTriangleSolutions(false));
+		Assert.assertEquals(expected, countTriangleSolutions(true));
+	}
+
+	@Test
+	public void testLearnBinDisjPigeonhole() {
+		// Three distinct values in a domain of size two: the disjunctions are free,
+		// so the infeasibility is found by search and explained.
+		x.le(1).post();
+		y.le(1).post();
+		final IntVar[] tvars = postTriangle(m.intVar("z", 0, 1));
+		m.getSolver().setLearningSignedClauses();
+		m.getSolver().setSearch(Search.inputOrderLBSearch(tvars[3], tvars[4], tvars[5], tvars[0], tvars[1], tvars[2]));
+		Assert.assertFalse(m.getSolver().solve());
+		Assert.assertTrue(m.getSolver().getFailCount() > 0);
+		Assert.assertTrue(m.getClauseConstraint().getClauseStore().getNbLearntClauses() > 0);
+	}
 }
@@ -0,0 +1,172 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.jgrapht.nio.ImportException;
+import org.junit.Test;
+
+import lignesclaires.choco.PropAssignmentLowerBound;
+import lignesclaires.choco.PropCyclePackingLowerBound;
+import lignesclaires.choco.PropPrefixLowerBound;
+import lignesclaires.graph.CrossingCounts;
+import lignesclaires.parser.PaceInputParser;
+import lignesclaires.solver.CyclePacking;
+import lignesclaires.solver.ReductionRules;
+import lignesclaires.specs.IBipartiteGraph;
+
+public class TestPropLowerBound {
+
+	private static final String[] INSTANCES = { "complete_4_5.gr", "cycle_8_shuffled.gr", "grid_9_shuffled.gr",
+			"ladder_4_4_shuffled.gr", "path_9_shuffled.gr", "star_6.gr", "tree_6_10.gr" };
+
+	private static final int[] OPTIMA = { 60, 4, 17, 11, 6, 0, 13 };
+
+	private Model m;
+	private IntVar[] pos;
+	private IntVar[] seq;
+	private IntVar obj;
+
+	private IBipartiteGraph getResourceGraph(final String name) throws ImportException, FileNotFoundException {
+		final InputStream in = getClass().getClassLoader().getResourceAsStream("tiny_test_set/" + name);
+		return new PaceInputParser().parse(in);
+	}
+
+	/**
+	 * Build the plain model: the objective is the sum of the reduced counts of the
+	 * pairs, without any lower bound.
+	 */
+	private void buildModel(final IBipartiteGraph bigraph) {
+		final int n = bigraph.getFreeCount();
+		m = new Model();
+		pos = m.intVarArray("pos", n, 0, n - 1);
+		seq = m.intVarArray("seq", n, 0, n - 1);
+		m.inverseChanneling(pos, seq).post();
+		final CrossingCounts counts = bigraph.getReducedCrossingCounts();
+		final List<IntVar> costs = new ArrayList<>();
+		costs.add(m.intVar(counts.getConstant()));
+		for (int i = 0; i < n; i++) {
+			for (int j = i + 1; j < n; j++) {
+				final int cij = counts.getCrossingCount(i, j);
+				final int cji = counts.getCrossingCount(j, i);
+				if (cij == cji) {
+					costs.add(m.intVar(cij));
+				} else {
+					final IntVar c = m.intVar(new int[] { cij, cji });
+					m.ifOnlyIf(m.arithm(pos[i], "<", pos[j]), m.arithm(c, "=", cij));
+					costs.add(c);
+				}
+			}
+		}
+		obj = m.intVar("obj", 0, IntVar.MAX_INT_BOUND / 2);
+		m.sum(costs.toArray(new IntVar[costs.size()]), "=", obj).post();
+	}
+
+	private <P extends Propagator<IntVar>> P post(final P prop) {
+		m.post(new Constraint("LowerBound", prop));
+		return prop;
+	}
+
+	private long countSolutions(final int bound) {
+		obj.le(bound).post();
+		m.getSolver().setSearch(Search.inputOrderLBSearch(seq));
+		return m.getSolver().streamSolutions().count();
+	}
+
+	private int minimize() {
+		m.getSolver().setSearch(Search.inputOrderLBSearch(seq));
+		m.setObjective(Model.MINIMIZE, obj);
+		int best = -1;
+		while (m.getSolver().solve()) {
+			best = obj.getValue();
+		}
+		return best;
+	}
+
+	/**
+	 * Check that the propagator changes neither the number of solutions up to the
+	 * optimum plus one, nor the optimum.
+	 *
+	 * @return the propagators posted in the models
+	 */
+	private <P extends Propagator<IntVar>> List<P> testSameSolutions(final Function<IBipartiteGraph, P> builder)
+			throws ImportException, FileNotFoundException {
+		final List<P> props = new ArrayList<>();
+		for (int k = 0; k < INSTANCES.length; k++) {
+			final IBipartiteGraph g = getResourceGraph(INSTANCES[k]);
+			buildModel(g);
+			final long expected = countSolutions(OPTIMA[k] + 1);
+			assertTrue(INSTANCES[k], expected > 0);
+			buildModel(g);
+			props.add(post(builder.apply(g)));
+			assertEquals(INSTANCES[k], expected, countSolutions(OPTIMA[k] + 1));
+			buildModel(g);
+			props.add(post(builder.apply(g)));
+			assertEquals(INSTANCES[k], OPTIMA[k], minimize());
+		}
+		return props;
+	}
+
+	@Test
+	public void testPlainModel() throws ImportException, FileNotFoundException {
+		for (int k = 0; k < INSTANCES.length; k++) {
+			buildModel(getResourceGraph(INSTANCES[k]));
+			assertEquals(INSTANCES[k], OPTIMA[k], minimize());
+		}
+	}
+
+	@Test
+	public void testPrefixLowerBound() throws ImportException, FileNotFoundException {
+		testSameSolutions(g -> new PropPrefixLowerBound(g, seq, obj));
+	}
+
+	@Test
+	public void testAssignmentLowerBound() throws ImportException, FileNotFoundException {
+		final List<PropAssignmentLowerBound> props = testSameSolutions(
+				g -> new PropAssignmentLowerBound(g, pos, obj, 1, false));
+		assertEquals(0, props.stream().mapToLong(PropAssignmentLowerBound::getRemovalCount).sum());
+	}
+
+	@Test
+	public void testReducedCostFiltering() throws ImportException, FileNotFoundException {
+		final List<PropAssignmentLowerBound> props = testSameSolutions(
+				g -> new PropAssignmentLowerBound(g, pos, obj, 1, true));
+		assertTrue(props.stream().mapToLong(PropAssignmentLowerBound::getRemovalCount).sum() > 0);
+	}
+
+	@Test
+	public void testLowerBoundPeriod() throws ImportException, FileNotFoundException {
+		final List<PropAssignmentLowerBound> props = testSameSolutions(
+				g -> new PropAssignmentLowerBound(g, pos, obj, 4));
+		assertTrue(props.stream().mapToLong(PropAssignmentLowerBound::getSkipCount).sum() > 0);
+		assertTrue(props.stream().mapToLong(PropAssignmentLowerBound::getCacheHitCount).sum() > 0);
+	}
+
+	@Test
+	public void testCyclePackingLowerBound() throws ImportException, FileNotFoundException {
+		// Without reduction rules, the plain model does not need to order the comparable pairs.
+		final List<PropCyclePackingLowerBound> props = testSameSolutions(g -> new PropCyclePackingLowerBound(
+				new CyclePacking(new ReductionRules(g, false, false, false)), pos, obj));
+		assertTrue(props.stream().mapToLong(PropCyclePackingLowerBound::getTightenCount).sum() > 0);
+	}
+
+}
@@ -0,0 +1,144 @@
+/*
+ * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
+ *
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
+ *
+ * Licensed under the BSD 3-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package lignesclaires;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.junit.Test;
+
+import lignesclaires.choco.PropLazyTransitivity;
+
+public class TestPropTransitivity {
+
+	private int n;
+	private int[] sources;
+	private int[] targets;
+	private int[] forwardValues;
+	private int[] backwardValues;
+	private int[][] edges;
+
+	private Model m;
+	private IntVar[] costs;
+	private PropLazyTransitivity lazy;
+
+	private void buildGraph(final int n, final double density, final long seed) {
+		this.n = n;
+		final Random rnd = new Random(seed);
+		edges = new int[n][n];
+		int count = 0;
+		final int[] src = new int[n * n];
+		final int[] dest = new int[n * n];
+		for (int i = 0; i < n; i++) {
+			for (int j = i + 1; j < n; j++) {
+				edges[i][j] = -1;
+				edges[j][i] = -1;
+				if (rnd.nextDouble() < density) {
+					edges[i][j] = count;
+					edges[j][i] = count;
+					src[count] = i;
+					dest[count] = j;
+					count++;
+				}
+			}
+		}
+		sources = new int[count];
+		targets = new int[count];
+		forwardValues = new int[count];
+		backwardValues = new int[count];
+		for (int e = 0; e < count; e++) {
+			sources[e] = src[e];
+			targets[e] = dest[e];
+			forwardValues[e] = rnd.nextInt(10);
+			backwardValues[e] = forwardValues[e] + 1 + rnd.nextInt(10);
+		}
+	}
+
+	private int getValue(final int i, final int j) {
+		final int e = edges[i][j];
+		return sources[e] == i ? forwardValues[e] : backwardValues[e];
+	}
+
+	private void buildModel(final boolean eager) {
+		m = new Model();
+		costs = new IntVar[sources.length];
+		for (int e = 0; e < costs.length; e++) {
+			costs[e] = m.intVar("c" + e, new int[] { forwardValues[e], backwardValues[e] });
+		}
+		if (eager) {
+			lazy = null;
+			for (int i = 0; i < n; i++) {
+				for (int j = i + 1; j < n; j++) {
+					for (int k = j + 1; k < n; k++) {
+						if (edges[i][j] >= 0 && edges[j][k] >= 0 && edges[k][i] >= 0) {
+							final Tuples tuples = new Tuples(false);
+							tuples.add(getValue(i, j), getValue(j, k), getValue(k, i));
+							tuples.add(getValue(j, i), getValue(k, j), getValue(i, k));
+							m.table(new IntVar[] { costs[edges[i][j]], costs[edges[j][k]], costs[edges[k][i]] },
+									tuples).post();
+						}
+					}
+				}
+			}
+		} else {
+			lazy = new PropLazyTransitivity(n, sources, targets, forwardValues, backwardValues, costs);
+			m.post(new Constraint("LazyTransitivity", lazy));
+		}
+		m.getSolver().setSearch(Search.randomSearch(costs, 0));
+	}
+
+	private long countSolutions(final boolean eager) {
+		buildModel(eager);
+		return m.getSolver().streamSolutions().count();
+	}
+
+	private int minimize(final boolean eager) {
+		buildModel(eager);
+		final IntVar obj = m.intVar("obj", 0, 20 * costs.length);
+		m.sum(costs, "=", obj).post();
+		m.setObjective(Model.MINIMIZE, obj);
+		int best = -1;
+		while (m.getSolver().solve()) {
+			best = obj.getValue();
+		}
+		return best;
+	}
+
+	@Test
+	public void testCompleteGraph() {
+		buildGraph(6, 1, 0);
+		assertEquals(720, countSolutions(true));
+		assertEquals(720, countSolutions(false));
+		assertTrue(lazy.getActiveCutCount() > 0);
+	}
+
+	@Test
+	public void testSameSolutionCounts() {
+		for (int seed = 0; seed < 10; seed++) {
+			buildGraph(7, 0.6, seed);
+			assertEquals(countSolutions(true), countSolutions(false));
+		}
+	}
+
+	@Test
+	public void testSameOptima() {
+		for (int seed = 0; seed < 10; seed++) {
+			buildGraph(8, 0.7, seed);
+			assertEquals(minimize(true), minimize(false));
+		}
+	}
+
+}
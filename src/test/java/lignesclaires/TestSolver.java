@@ -1,38 +1,92 @@
 /*
  * This file is part of lignes-claires, https://github.com/arnaud-m/lignes-claires
  *
- * Copyright (c) 2024, Université Côte d'Azur. All rights reserved.
+ * Copyright (c) 2026, Université Côte d'Azur. All rights reserved.
  *
  * Licensed under the BSD 3-clause license.
  * See LICENSE file in the project root for full license information.
  */
 package lignesclaires;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.io.BufferedReader;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.lang.ProcessBuilder.Redirect;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
 import org.jgrapht.Graph;
 import org.jgrapht.graph.DefaultEdge;
 import org.jgrapht.nio.ImportException;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import lignesclaires.LignesClaires;
+import lignesclaires.choco.SharedBoundMonitor;
 import lignesclaires.cmd.OCModelOptionHandler;
+import lignesclaires.cmd.OptionsParser;
 import lignesclaires.config.LignesClairesConfig;
+import lignesclaires.graph.BGraph;
+import lignesclaires.graph.CrossingCounts;
 import lignesclaires.graph.JGraphtUtil;
 import lignesclaires.parser.PACEImporter;
 import lignesclaires.parser.PaceInputParser;
+import lignesclaires.solver.CyclePacking;
+import lignesclaires.solver.HeuristicSolver;
+import lignesclaires.solver.LinearOrderingRelaxation;
+import lignesclaires.solver.LocalSearch;
+import lignesclaires.solver.OCCertifier;
+import lignesclaires.solver.OCBranchAndBoundSolver;
+import lignesclaires.solver.OCConcurrentSolver;
+import lignesclaires.solver.OCCutwidthSolver;
+import lignesclaires.solver.OCDistributedSolver;
+import lignesclaires.solver.OCDistributedWorker;
+import lignesclaires.solver.OCEPSSolver;
+import lignesclaires.solver.OCIdealDPSolver;
+import lignesclaires.solver.OCKernelSolver;
+import lignesclaires.solver.OCLNSSolver;
 import lignesclaires.solver.OCModelFlag;
+import lignesclaires.solver.OCPortfolioSolver;
 import lignesclaires.solver.OCSearchFlag;
 import lignesclaires.solver.OCSolution;
 import lignesclaires.solver.OCSolver;
 import lignesclaires.solver.OCSolverException;
+import lignesclaires.solver.OCSubsetDPSolver;
+import lignesclaires.solver.PairProbing;
+import lignesclaires.solver.ReductionRules;
+import lignesclaires.solver.SharedIncumbent;
 import lignesclaires.solver.Status;
+import lignesclaires.solver.WindowOptimizer;
 import lignesclaires.specs.IBipartiteGraph;
 import lignesclaires.specs.IGraphParser;
+import lignesclaires.specs.IOCSolver;
 
 public class TestSolver {
 
@@ -64,6 +118,8 @@ public class TestSolver {
 		final IBipartiteGraph graph = getResourceGraph(resourcePath);
 		final int n = OCModelOptionHandler.order(OCModelFlag.class);
 		final int m = OCModelOptionHandler.order(OCSearchFlag.class);
+		config.setSubsetDPSize(0);
+		config.setIdealBudget(0);
 		for (int modelMask = 0; modelMask < n; modelMask++) {
 			config.setModelMask(modelMask);
 			for (int searchMask = 0; searchMask < m; searchMask++) {
@@ -81,6 +137,551 @@ public class TestSolver {
 		testAll("tiny_test_set/" + resourcePath, optimum);
 	}
 
+	public void testParallel(IOCSolver parallelSolver, String resourcePath, int optimum)
+			throws OCSolverException, ImportException, FileNotFoundException {
+		final IBipartiteGraph graph = getResourceGraph("tiny_test_set/" + resourcePath);
+		final LignesClairesConfig conf = new LignesClairesConfig();
+		conf.setWorkers(9);
+		conf.setSubproblemRatio(4);
+		final OCSolution sol = parallelSolver.solve(graph, conf);
+		assertEquals(Status.OPTIMUM, sol.getStatus());
+		assertEquals(optimum, sol.getObjective().getAsInt());
+		assertEquals(graph.getFreeCount(), sol.getPermutation().get().length);
+	}
+
+	public void testParallel(IOCSolver parallelSolver)
+			throws OCSolverException, ImportException, FileNotFoundException {
+		testParallel(parallelSolver, "complete_4_5.gr", 60);
+		testParallel(parallelSolver, "grid_9_shuffled.gr", 17);
+		testParallel(parallelSolver, "matching_4_4.gr", 0);
+		testParallel(parallelSolver, "tree_6_10.gr", 13);
+		testParallel(parallelSolver, "website_20.gr", 17);
+	}
+
+	@Test
+	public void testPortfolio() throws OCSolverException, ImportException, FileNotFoundException {
+		testParallel(new OCPortfolioSolver());
+	}
+
+	@Test
+	public void testEPS() throws OCSolverException, ImportException, FileNotFoundException {
+		testParallel(new OCEPSSolver());
+	}
+
+	@Test
+	public void testGuided() throws OCSolverException, ImportException, FileNotFoundException {
+		final IOCSolver heuristics = new HeuristicSolver();
+		testParallel((graph, initialSolution, conf) -> {
+			conf.setSubsetDPSize(0);
+			conf.setIdealBudget(0);
+			conf.setGuided(true);
+			return solver.solve(graph, heuristics.solve(graph, conf), conf);
+		});
+	}
+
+	@Test
+	public void testConcurrent() throws OCSolverException, ImportException, FileNotFoundException {
+		testParallel(new OCConcurrentSolver());
+	}
+
+	@Test
+	public void testSharedBound() {
+		final SharedIncumbent incumbent = new SharedIncumbent(OCSolution.getUnknownInstance());
+		assertEquals(Integer.MAX_VALUE, incumbent.getBound());
+		assertTrue(incumbent.offer(4, new int[] { 1, 0 }));
+		assertEquals(4, incumbent.getBound());
+		// The bound is already below the value, so it does not wait.
+		incumbent.awaitBound(5, 60_000);
+
+		final Model model = new Model();
+		final IntVar x = model.intVar("x", 0, 10);
+		model.setObjective(Model.MINIMIZE, x);
+		model.getSolver().setSearch(Search.inputOrderUBSearch(x));
+		final SharedBoundMonitor monitor = SharedBoundMonitor.plug(model.getSolver(), incumbent::getBound);
+		assertTrue(model.getSolver().solve());
+		assertEquals(3, x.getValue());
+		assertTrue(monitor.getPullCount() > 0);
+	}
+
+	@Test
+	public void testLocalSearch() throws ImportException, FileNotFoundException {
+		final IBipartiteGraph graph = getResourceGraph("tiny_test_set/grid_9_shuffled.gr");
+		final int[] order = IntStream.range(0, graph.getFreeCount()).toArray();
+		final LocalSearch search = new LocalSearch(graph.getCrossingCounts(), order, 0);
+		for (int i = 0; i < 100; i++) {
+			search.iterate();
+		}
+		assertEquals(17, search.getBestCost());
+		final Integer[] best = IntStream.of(search.getBestOrder()).boxed().toArray(Integer[]::new);
+		assertEquals(17, graph.getCrossingCounts().getCrossingCounts(best));
+	}
+
+	public void testGap(String resourcePath, int optimum)
+			throws OCSolverException, ImportException, FileNotFoundException {
+		final IBipartiteGraph graph = getResourceGraph("tiny_test_set/" + resourcePath);
+		final LignesClairesConfig conf = new LignesClairesConfig();
+		conf.setAbsoluteGap(2);
+		conf.setSubsetDPSize(0);
+		conf.setIdealBudget(0);
+		final OCSolution sol = solver.solve(graph, conf);
+		assertTrue(sol.getStatus() == Status.OPTIMUM || sol.getStatus() == Status.SATISFIABLE);
+		assertTrue(sol.getObjective().getAsInt() <= optimum + 2);
+		if (sol.getStatus() == Status.OPTIMUM) {
+			assertEquals(optimum, sol.getObjective().getAsInt());
+		}
+	}
+
+	@Test
+	public void testGap() throws OCSolverException, ImportException, FileNotFoundException {
+		testGap("complete_4_5.gr", 60);
+		testGap("grid_9_shuffled.gr", 17);
+		testGap("tree_6_10.gr", 13);
+		testGap("website_20.gr", 17);
+	}
+
+	public OCSolution testCertifier(String resourcePath, int optimum)
+			throws OCSolverException, ImportException, FileNotFoundException {
+		final IBipartiteGraph graph = getResourceGraph("tiny_test_set/" + resourcePath);
+		final OCSolution sol = new OCCertifier().solve(graph, new HeuristicSolver().solve(graph, config), config);
+		if (sol.getStatus() == Status.OPTIMUM) {
+			assertEquals(optimum, sol.getObjective().getAsInt());
+			assertEquals(graph.getFreeCount(), sol.getPermutation().get().length);
+		}
+		return sol;
+	}
+
+	@Test
+	public void testCertifier() throws OCSolverException, ImportException, FileNotFoundException {
+		assertEquals(Status.OPTIMUM, testCertifier("matching_4_4.gr", 0).getStatus());
+		assertEquals(Status.OPTIMUM, testCertifier("path_9_sorted.gr", 0).getStatus());
+		assertEquals(Status.OPTIMUM, testCertifier("star_6.gr", 0).getStatus());
+		testCertifier("complete_4_5.gr", 60);
+		testCertifier("cycle_8_shuffled.gr", 4);
+		testCertifier("grid_9_shuffled.gr", 17);
+		testCertifier("ladder_4_4_shuffled.gr", 11);
+		testCertifier("tree_6_10.gr", 13);
+		testCertifier("website_20.gr", 17);
+	}
+
+	private static final String[] TINY_INSTANCES = { "complete_4_5.gr", "cycle_8_shuffled.gr", "cycle_8_sorted.gr",
+			"grid_9_shuffled.gr", "ladder_4_4_shuffled.gr", "ladder_4_4_sorted.gr", "matching_4_4.gr",
+			"path_9_shuffled.gr", "path_9_sorted.gr", "plane_5_6.gr", "star_6.gr", "tree_6_10.gr", "website_20.gr" };
+
+	private static final int[] TINY_OPTIMA = { 60, 4, 3, 17, 11, 3, 0, 6, 0, 0, 0, 13, 17 };
+
+	/**
+	 * Check that the solution is optimal and that its permutation has the optimal
+	 * crossing count.
+	 */
+	private static void assertOptimum(final IBipartiteGraph graph, final OCSolution sol, final int optimum) {
+		assertEquals(Status.OPTIMUM, sol.getStatus());
+		assertEquals(optimum, sol.getObjective().getAsInt());
+		final Integer[] order = IntStream.of(sol.getPermutation().get()).map(v -> v - graph.getFreeNode(0)).boxed()
+				.toArray(Integer[]::new);
+		assertEquals(graph.getFreeCount(), order.length);
+		assertEquals(optimum, graph.getCrossingCounts().getCrossingCounts(order));
+	}
+
+	@Test
+	public void testSubsetDP() throws OCSolverException, ImportException, FileNotFoundException {
+		final IOCSolver dp = new OCSubsetDPSolver();
+		for (int k = 0; k < TINY_INSTANCES.length; k++) {
+			final IBipartiteGraph graph = getResourceGraph("tiny_test_set/" + TINY_INSTANCES[k]);
+			final OCSolution sol = dp.solve(graph, config);
+			assertOptimum(graph, sol, TINY_OPTIMA[k]);
+			assertSame(sol, dp.solve(graph, sol, config));
+		}
+	}
+
+	@Test
+	public void testSubsetDPSizeOption() {
+		final String size = String.valueOf(OCSubsetDPSolver.MAX_SIZE);
+		final String[] valid = { "--dp-size", size, "graph.gr" };
+		assertFalse(new OptionsParser(LignesClaires.class, new LignesClairesConfig(), "FILE").parseOptions(valid)
+				.isPresent());
+		final String[] invalid = { "--dp-size", String.valueOf(OCSubsetDPSolver.MAX_SIZE + 1), "graph.gr" };
+		assertTrue(new OptionsParser(LignesClaires.class, new LignesClairesConfig(), "FILE").parseOptions(invalid)
+				.isPresent());
+	}
+
+	@Test
+	public void testIdealDP() throws OCSolverException, ImportException, FileNotFoundException {
+		final LignesClairesConfig conf = new LignesClairesConfig();
+		conf.setIdealBudget(1_000_000);
+		final LignesClairesConfig plainConf = new LignesClairesConfig();
+		plainConf.setIdealBudget(1_000_000);
+		plainConf.setModelMask(0);
+		for (int k = 0; k < TINY_INSTANCES.length; k++) {
+			final IBipartiteGraph graph = getResourceGraph("tiny_test_set/" + TINY_INSTANCES[k]);
+			final OCIdealDPSolver dp = new OCIdealDPSolver();
+			assertOptimum(graph, dp.solve(graph, conf), TINY_OPTIMA[k]);
+			final OCIdealDPSolver plainDP = new OCIdealDPSolver();
+			assertOptimum(graph, plainDP.solve(graph, plainConf), TINY_OPTIMA[k]);
+			// The reduction rules only remove ideals.
+			assertTrue(dp.getIdealCount() <= plainDP.getIdealCount());
+			assertOptimum(graph, dp.solve(graph, new HeuristicSolver().solve(graph, conf), conf), TINY_OPTIMA[k]);
+		}
+	}
+
+	@Test
+	public void testIdealDPDeadline() throws ImportException, FileNotFoundException {
+		final IBipartiteGraph graph = getResourceGraph("tiny_test_set/website_20.gr");
+		final LignesClairesConfig conf = new LignesClairesConfig();
+		conf.setIdealBudget(1_000_000);
+		assertEquals(Status.UNKNOWN,
+				new OCIdealDPSolver().solve(graph, OCSolution.getUnknownInstance(), conf, 0).getStatus());
+	}
+
+	@Test
+	public void testIdealDPBudget() throws OCSolverException, ImportException, FileNotFoundException {
+		final IBipartiteGraph graph = getResourceGraph("tiny_test_set/website_20.gr");
+		final LignesClairesConfig conf = new LignesClairesConfig();
+		conf.setIdealBudget(1);
+		assertEquals(Status.UNKNOWN, new OCIdealDPSolver().solve(graph, conf).getStatus());
+	}
+
+	@Test
+	public void testCutwidth() throws OCSolverException, ImportException, FileNotFoundException {
+		final LignesClairesConfig budgetConf = new LignesClairesConfig();
+		budgetConf.setIdealBudget(1);
+		budgetConf.setSubsetDPSize(0);
+		for (int k = 0; k < TINY_INSTANCES.length; k++) {
+			final IBipartiteGraph graph = getResourceGraph("tiny_test_set/" + TINY_INSTANCES[k]);
+			final OCCutwidthSolver cutwidth = new OCCutwidthSolver();
+			assertOptimum(graph, cutwidth.solve(graph, config), TINY_OPTIMA[k]);
+			assertTrue(cutwidth.getIdealCount() > 0);
+			// The model is solved when the budget is exceeded.
+			assertOptimum(graph, new OCCutwidthSolver().solve(graph, budgetConf), TINY_OPTIMA[k]);
+		}
+	}
+
+	@Test
+	public void testCutwidthMatching() throws OCSolverException, ImportException, FileNotFoundException {
+		final BGraph graph = (BGraph) getResourceGraph("tiny_test_set/matching_4_4.gr");
+		assertEquals(0, graph.computeCutwidth());
+		final OCCutwidthSolver cutwidth = new OCCutwidthSolver();
+		assertOptimum(graph, cutwidth.solve(graph, config), 0);
+		// The free nodes are totally ordered, so there is one ideal by size.
+		assertEquals(graph.getFreeCount() + 1, cutwidth.getIdealCount());
+	}
+
+	@Test
+	public void testCutwidthSharedEndpoints() throws OCSolverException {
+		final int[][] neighbors = new int[26][];
+		Arrays.fill(neighbors, 0, 20, new int[] { 1 });
+		Arrays.fill(neighbors, 20, 22, new int[] { 1, 2 });
+		Arrays.fill(neighbors, 22, 24, new int[] { 2 });
+		Arrays.fill(neighbors, 24, 26, new int[] { 2, 3 });
+		final BGraph graph = buildGraph(3, neighbors);
+		final LignesClairesConfig conf = new LignesClairesConfig();
+		conf.setSubsetDPSize(0);
+		final OCCutwidthSolver cutwidth = new OCCutwidthSolver();
+		assertOptimum(graph, cutwidth.solve(graph, conf), 2);
+		// The nodes whose spans share an endpoint are ordered.
+		assertTrue(cutwidth.getIdealCount() <= 2 * graph.getFreeCount());
+	}
+
+	@Test
+	public void testBranchAndBound() throws OCSolverException, ImportException, FileNotFoundException {
+		long nodeCount = 0;
+		long unprunedNodeCount = 0;
+		for (int k = 0; k < TINY_INSTANCES.length; k++) {
+			final IBipartiteGraph graph = getResourceGraph("tiny_test_set/" + TINY_INSTANCES[k]);
+			final OCBranchAndBoundSolver bnb = new OCBranchAndBoundSolver();
+			assertOptimum(graph, bnb.solve(graph, config), TINY_OPTIMA[k]);
+			final OCBranchAndBoundSolver unpruned = new OCBranchAndBoundSolver(false);
+			assertOptimum(graph, unpruned.solve(graph, config), TINY_OPTIMA[k]);
+			assertTrue(TINY_INSTANCES[k], bnb.getNodeCount() <= unpruned.getNodeCount());
+			nodeCount += bnb.getNodeCount();
+			unprunedNodeCount += unpruned.getNodeCount();
+		}
+		assertTrue(nodeCount < unprunedNodeCount);
+	}
+
+	/**
+	 * Build a bipartite graph from the fixed neighbors of the free nodes.
+	 */
+	private static BGraph buildGraph(final int fixedCount, final int[][] freeNeighbors) {
+		final Graph<Integer, DefaultEdge> graph = JGraphtUtil.unweightedUndirected();
+		JGraphtUtil.addVertices(graph, 1, fixedCount + freeNeighbors.length + 1);
+		for (int i = 0; i < freeNeighbors.length; i++) {
+			for (int j : freeNeighbors[i]) {
+				graph.addEdge(j, fixedCount + 1 + i);
+			}
+		}
+		return new BGraph(graph, fixedCount, freeNeighbors.length);
+	}
+
+	@Test
+	public void testKernel() throws OCSolverException {
+		// The middle node is forced between the pairs of nodes whose spans cross.
+		final BGraph graph = buildGraph(7, new int[][] { { 1, 3 }, { 2 }, { 4 }, { 5, 7 }, { 6 } });
+		final Integer[] reversed = { 4, 3, 2, 1, 0 };
+		final OCSolution initial = new OCSolution(graph.getCrossingCounts().getCrossingCounts(reversed), reversed,
+				graph.getFreeNode(0));
+		final OCKernelSolver kernel = new OCKernelSolver(solver);
+		final OCSolution sol = kernel.solve(graph, initial, config);
+		assertEquals(1, kernel.getForcedCount());
+		assertOptimum(graph, sol, 2);
+		assertEquals(graph.getFreeNode(2), sol.getPermutation().get()[2]);
+	}
+
+	private static void assertOrientations(final int[][] expected, final Optional<List<int[]>> oriented) {
+		assertTrue(oriented.isPresent());
+		assertArrayEquals(expected, oriented.get().toArray(new int[0][]));
+	}
+
+	@Test
+	public void testProbing() {
+		// The optimum is 1 and the reduced counts are c(1, 0) = 1, c(2, 0) = 3 and c(2, 1) = 1.
+		final BGraph graph = buildGraph(5, new int[][] { { 1, 2, 4 }, { 3 }, { 5 } });
+		final ReductionRules rules = new ReductionRules(graph, false, false, false);
+		assertOrientations(new int[][] { { 0, 1 }, { 0, 2 }, { 1, 2 } }, new PairProbing(rules).probe(2));
+		assertOrientations(new int[][] { { 0, 2 } }, new PairProbing(rules).probe(4));
+		assertOrientations(new int[0][], new PairProbing(rules).probe(5));
+		// No solution is below the optimum.
+		assertTrue(new PairProbing(rules).probe(1).isEmpty());
+	}
+
+	@Test
+	public void testProbingModel() throws OCSolverException, ImportException, FileNotFoundException {
+		final LignesClairesConfig conf = new LignesClairesConfig();
+		conf.setSubsetDPSize(0);
+		conf.setProbing(true);
+		for (int k = 0; k < TINY_INSTANCES.length; k++) {
+			final IBipartiteGraph graph = getResourceGraph("tiny_test_set/" + TINY_INSTANCES[k]);
+			final OCSolution initial = new HeuristicSolver().solve(graph, conf);
+			assertOptimum(graph, solver.solve(graph, initial, conf), TINY_OPTIMA[k]);
+		}
+	}
+
+	private OCSolution solveModel(final IBipartiteGraph graph, final EnumSet<OCModelFlag> mask)
+			throws OCSolverException {
+		final LignesClairesConfig conf = new LignesClairesConfig();
+		conf.setModelMask(mask);
+		conf.setCertified(false);
+		conf.setProbing(false);
+		conf.setSubsetDPSize(0);
+		conf.setIdealBudget(0);
+		conf.setRelaxationCuts(0);
+		return solver.solve(graph, conf);
+	}
+
+	private void testLinearOrderingModel(String resourcePath, int optimum)
+			throws OCSolverException, ImportException, FileNotFoundException {
+		final IBipartiteGraph graph = getResourceGraph("tiny_test_set/" + resourcePath);
+		final EnumSet<OCModelFlag> mask = EnumSet.of(OCModelFlag.RR1, OCModelFlag.RR2, OCModelFlag.RR3, OCModelFlag.LB);
+		final OCSolution expected = solveModel(graph, mask);
+		mask.add(OCModelFlag.LO);
+		final OCSolution actual = solveModel(graph, mask);
+		final OCSolution plain = solveModel(graph, EnumSet.of(OCModelFlag.LO));
+		for (OCSolution sol : List.of(expected, actual, plain)) {
+			assertEquals(Status.OPTIMUM, sol.getStatus());
+			assertEquals(optimum, sol.getObjective().getAsInt());
+			final Integer[] order = IntStream.of(sol.getPermutation().get()).map(v -> v - graph.getFreeNode(0))
+					.boxed().toArray(Integer[]::new);
+			assertEquals(optimum, graph.getCrossingCounts().getCrossingCounts(order));
+		}
+	}
+
+	@Test
+	public void testLinearOrderingModel() throws OCSolverException, ImportException, FileNotFoundException {
+		testLinearOrderingModel("complete_4_5.gr", 60);
+		testLinearOrderingModel("cycle_8_shuffled.gr", 4);
+		testLinearOrderingModel("grid_9_shuffled.gr", 17);
+		testLinearOrderingModel("ladder_4_4_shuffled.gr", 11);
+		testLinearOrderingModel("path_9_shuffled.gr", 6);
+		testLinearOrderingModel("tree_6_10.gr", 13);
+		testLinearOrderingModel("website_20.gr", 17);
+	}
+
+	private void testCyclePacking(String resourcePath, int optimum) throws ImportException, FileNotFoundException {
+		final IBipartiteGraph graph = getResourceGraph("tiny_test_set/" + resourcePath);
+		final CyclePacking packing = new CyclePacking(new ReductionRules(graph, true, true, true));
+		assertTrue(packing.getLowerBound() <= optimum);
+		assertEquals(packing.getLowerBound(), packing.getLowerBound(p -> false));
+		assertTrue(packing.getLowerBound(p -> true) >= packing.getLowerBound());
+	}
+
+	@Test
+	public void testCyclePacking() throws ImportException, FileNotFoundException {
+		for (int k = 0; k < TINY_INSTANCES.length; k++) {
+			testCyclePacking(TINY_INSTANCES[k], TINY_OPTIMA[k]);
+		}
+	}
+
+	@Test
+	public void testCyclePackingCertificate() throws OCSolverException {
+		// The cheap orientations of the pairs form a 3-cycle.
+		final BGraph graph = buildGraph(6, new int[][] { { 3, 4 }, { 1, 4, 5 }, { 2, 3, 6 } });
+		final OCSolution optimum = new OCSubsetDPSolver().solve(graph, config);
+		final int objective = optimum.getObjective().getAsInt();
+		final CyclePacking packing = new CyclePacking(new ReductionRules(graph, true, true, true));
+		assertEquals(1, packing.getCycleCount());
+		assertTrue(graph.getReducedCrossingCounts().getConstant() < objective);
+		assertEquals(objective, packing.getLowerBound());
+		final OCSolution initial = new OCSolution(Status.SATISFIABLE, optimum.getObjective(),
+				optimum.getPermutation());
+		assertOptimum(graph, new OCCertifier().solve(graph, initial, config), objective);
+	}
+
+	@Test
+	public void testRelaxation() throws ImportException, FileNotFoundException {
+		for (int k = 0; k < TINY_INSTANCES.length; k++) {
+			final IBipartiteGraph graph = getResourceGraph("tiny_test_set/" + TINY_INSTANCES[k]);
+			final ReductionRules rules = new ReductionRules(graph, true, true, true);
+			final int rootLB = new LinearOrderingRelaxation(rules).solve(0, Integer.MAX_VALUE, Long.MAX_VALUE);
+			final LinearOrderingRelaxation lp = new LinearOrderingRelaxation(rules);
+			final int lb = lp.solve(1000, Integer.MAX_VALUE, Long.MAX_VALUE);
+			assertTrue(TINY_INSTANCES[k], lb <= TINY_OPTIMA[k]);
+			assertTrue(TINY_INSTANCES[k], lb >= rootLB);
+			assertTrue(TINY_INSTANCES[k], lb >= new CyclePacking(rules).getLowerBound());
+		}
+	}
+
+	@Test
+	public void testRelaxationCertificate() throws OCSolverException {
+		// The bound without cuts is the constant, and the 3-cycle cut proves the optimum.
+		final BGraph graph = buildGraph(6, new int[][] { { 3, 4 }, { 1, 4, 5 }, { 2, 3, 6 } });
+		final ReductionRules rules = new ReductionRules(graph, true, true, true);
+		final OCSolution optimum = new OCSubsetDPSolver().solve(graph, config);
+		final int objective = optimum.getObjective().getAsInt();
+		assertTrue(new LinearOrderingRelaxation(rules).solve(0, Integer.MAX_VALUE, Long.MAX_VALUE) < objective);
+		final LinearOrderingRelaxation lp = new LinearOrderingRelaxation(rules);
+		assertEquals(objective, lp.solve(1000, Integer.MAX_VALUE, Long.MAX_VALUE));
+		assertEquals(1, lp.getCutCount());
+		// The relaxation stops at the deadline.
+		assertEquals(graph.getReducedCrossingCounts().getConstant(),
+				new LinearOrderingRelaxation(rules).solve(1000, Integer.MAX_VALUE, 0));
+	}
+
+	@Test
+	public void testWindowOptimizer() throws ImportException, FileNotFoundException {
+		final IBipartiteGraph graph = getResourceGraph("tiny_test_set/grid_9_shuffled.gr");
+		final CrossingCounts counts = graph.getCrossingCounts();
+		final Integer[] perm = IntStream.range(0, graph.getFreeCount()).boxed().toArray(Integer[]::new);
+		final int cost = counts.getCrossingCounts(perm);
+		final int delta = WindowOptimizer.optimize(counts, perm, 3);
+		assertTrue(delta >= 0);
+		assertEquals(cost - delta, counts.getCrossingCounts(perm));
+		WindowOptimizer.optimize(counts, perm, graph.getFreeCount());
+		assertEquals(17, counts.getCrossingCounts(perm));
+	}
+
+	@Test
+	public void testLNS() throws OCSolverException, ImportException, FileNotFoundException {
+		testParallel(new OCLNSSolver());
+	}
+
+	/**
+	 * Run the coordinator with local workers connected to a free port.
+	 */
+	private static OCSolution solveDistributed(final IBipartiteGraph graph, final OCSolution initialSolution,
+			final LignesClairesConfig conf) throws OCSolverException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			conf.setPort(socket.getLocalPort());
+		} catch (IOException e) {
+			throw new OCSolverException("Find free port", e);
+		}
+		final List<Process> workers = new ArrayList<>();
+		try {
+			for (int i = 0; i < 3; i++) {
+				workers.add(new ProcessBuilder(System.getProperty("java.home") + "/bin/java", "-cp",
+						System.getProperty("java.class.path"), LignesClaires.class.getName(), "--connect",
+						"localhost:" + conf.getPort()).redirectOutput(Redirect.DISCARD).redirectError(Redirect.DISCARD)
+						.start());
+			}
+		} catch (IOException e) {
+			workers.forEach(Process::destroy);
+			throw new OCSolverException("Start worker process", e);
+		}
+		final OCSolution sol = new OCDistributedSolver().solve(graph, initialSolution, conf);
+		for (Process worker : workers) {
+			try {
+				if (worker.waitFor(30, TimeUnit.SECONDS)) {
+					assertEquals(0, worker.exitValue());
+				} else {
+					worker.destroy();
+					fail("The worker process does not terminate.");
+				}
+			} catch (InterruptedException e) {
+				worker.destroy();
+				Thread.currentThread().interrupt();
+			}
+		}
+		return sol;
+	}
+
+	@Test
+	public void testDistributed() throws OCSolverException, ImportException, FileNotFoundException {
+		testParallel(TestSolver::solveDistributed);
+	}
+
+	@Test
+	public void testDistributedProtocol() throws Exception {
+		final IBipartiteGraph graph = getResourceGraph("tiny_test_set/grid_9_shuffled.gr");
+		final LignesClairesConfig conf = new LignesClairesConfig();
+		conf.setWorkers(1);
+		conf.setSubproblemRatio(4);
+		try (ServerSocket socket = new ServerSocket(0)) {
+			conf.setPort(socket.getLocalPort());
+		}
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final Future<OCSolution> coordinator = executor.submit(() -> new OCDistributedSolver().solve(graph, conf));
+			// A foreign client sends a permutation with a wrong objective.
+			try (Socket socket = connect(conf.getPort());
+					BufferedReader in = new BufferedReader(
+							new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+					PrintWriter out = new PrintWriter(
+							new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true)) {
+				socket.setSoTimeout(10_000);
+				final int k = Integer.parseInt(in.readLine().split(" ")[1]);
+				for (int i = 0; i <= k; i++) {
+					in.readLine();
+				}
+				final StringBuilder b = new StringBuilder("sol 0");
+				for (int i = 0; i < graph.getFreeCount(); i++) {
+					b.append(' ').append(graph.getFreeNode(i));
+				}
+				out.println(b);
+				// The coordinator closes the connection.
+				while (in.readLine() != null) {
+					// Skip the bounds.
+				}
+			}
+			// The task of the foreign client is solved by a genuine worker.
+			final Thread worker = new Thread(() -> {
+				try {
+					new OCDistributedWorker(conf).run("localhost", conf.getPort());
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			worker.start();
+			assertOptimum(graph, coordinator.get(60, TimeUnit.SECONDS), 17);
+			worker.join();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static Socket connect(final int port) throws IOException, InterruptedException {
+		// The coordinator may not listen yet.
+		for (int i = 1;; i++) {
+			try {
+				return new Socket("localhost", port);
+			} catch (ConnectException e) {
+				if (i >= 50) {
+					throw e;
+				}
+				Thread.sleep(100);
+			}
+		}
+	}
+
 	@Test
 	public void testComplete_4_5() throws OCSolverException, ImportException, FileNotFoundException {
 		testTiny("complete_4_5.gr", 60);